@@ -1,11 +1,26 @@
 package com.apiautomation.framework;
 
 import com.apiautomation.framework.config.ConfigManager;
+import com.apiautomation.framework.http.CircuitBreakerFilter;
+import com.apiautomation.framework.http.ConditionalGetCache;
+import com.apiautomation.framework.http.ConnectionPoolManager;
+import com.apiautomation.framework.http.LatencyRecorder;
+import com.apiautomation.framework.http.LatencySlos;
+import com.apiautomation.framework.http.RateLimiter;
+import com.apiautomation.framework.http.RequestContext;
+import com.apiautomation.framework.http.RequestPhases;
+import com.apiautomation.framework.http.RetryPolicy;
+import com.apiautomation.framework.http.TransportMetrics;
+import com.apiautomation.framework.utils.ResponseBodies;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeMethod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,25 +41,98 @@ public abstract class BaseTest {
         logger.info("⏱️  API Timeout: {}ms", API_TIMEOUT);
         logger.info("⚡ Max Response Time: {}ms", MAX_RESPONSE_TIME);
         
-        RestAssured.baseURI = BASE_URL;
-        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        if (ConditionalGetCache.isEnabled()) {
+            logger.info("🗄️ Conditional-GET response cache enabled");
+        }
         
         logger.info("✅ Test environment setup completed");
     }
     
+    @BeforeMethod(alwaysRun = true)
+    public void openRequestContext() {
+        RequestContext.open(getBaseUrl());
+    }
+    
+    @AfterMethod(alwaysRun = true)
+    public void closeRequestContext() {
+        RequestContext.close();
+    }
+    
+    @AfterMethod(alwaysRun = true)
+    public void attachRequestPhases() {
+        String phases = RequestPhases.drainReport();
+        if (!phases.isEmpty()) {
+            Allure.addAttachment("Request phases", "text/plain", phases);
+        }
+    }
+    
     @AfterClass
     public void tearDown() {
         logger.info("🧹 Cleaning up test environment...");
-        // Add any cleanup logic here if needed
+        logger.info("🔌 Connection pool: {}", ConnectionPoolManager.describeStats());
+        logger.info("🔀 Async transport: {}", TransportMetrics.describe());
+        logger.info("🔁 Retries: {}", RetryPolicy.shared().describeStats());
+        if (ConditionalGetCache.isEnabled()) {
+            logger.info("🗄️ Response cache: {}", ConditionalGetCache.shared().describeStats());
+        }
+        String trippedBreakers = CircuitBreakerFilter.shared().describeTripped();
+        if (!trippedBreakers.isEmpty()) {
+            logger.warn("⛔ Circuit breakers opened:\n{}", trippedBreakers);
+        }
         logger.info("✅ Test environment cleanup completed");
     }
     
+    @AfterSuite(alwaysRun = true)
+    public void reportRunMetrics() {
+        String throughput = RateLimiter.shared().report();
+        logger.info("📈 {}", throughput);
+        Allure.addAttachment("Throughput report", "text/plain", throughput);
+        if (!LatencyRecorder.shared().isEmpty()) {
+            String latency = LatencyRecorder.shared().report();
+            logger.info("⏱️  Latency percentiles:\n{}", latency);
+            Allure.addAttachment("Latency report", "text/plain", latency);
+        }
+    }
+    
+    /**
+     * Fails the run if an endpoint's recorded latency breaches its {@code slo.*} objective.
+     */
+    @AfterSuite(alwaysRun = true)
+    public void enforceLatencySlos() {
+        LatencySlos slos = LatencySlos.fromConfig();
+        if (slos.isEmpty()) {
+            return;
+        }
+        LatencySlos.Report report = slos.check(LatencyRecorder.shared());
+        Allure.addAttachment("Latency SLOs", "text/plain", report.toString());
+        if (report.isBreached()) {
+            logger.error("❌ Latency SLOs breached:\n{}", report);
+            throw new AssertionError("Latency SLOs breached:\n" + report);
+        }
+        logger.info("✅ Latency SLOs:\n{}", report);
+    }
+    
+    /**
+     * Base URL for this test class; override to point a class at another service.
+     */
+    protected String getBaseUrl() {
+        return BASE_URL;
+    }
+    
+    /**
+     * Starts a request from the current test's context (base URL, pooled connections, framework
+     * filters). Safe to call from tests running in parallel.
+     */
+    protected RequestSpecification given() {
+        return RequestContext.current().given();
+    }
+    
     @Step("Verify response status code")
     protected void verifyStatusCode(Response response, int expectedStatusCode) {
         int actualStatusCode = response.getStatusCode();
         if (actualStatusCode != expectedStatusCode) {
             logger.error("❌ Status code mismatch. Expected: {}, Actual: {}", expectedStatusCode, actualStatusCode);
-            logger.error("Response body: {}", response.getBody().asString());
+            logger.error("Response body: {}", ResponseBodies.preview(response));
             throw new AssertionError(String.format("Status code mismatch. Expected: %d, Actual: %d", 
                 expectedStatusCode, actualStatusCode));
         }
@@ -54,8 +142,10 @@ public abstract class BaseTest {
     @Step("Verify response time")
     protected void verifyResponseTime(Response response) {
         long responseTime = response.getTime();
+        RequestPhases phases = RequestPhases.of(response);
         if (responseTime > MAX_RESPONSE_TIME) {
-            logger.warn("⚠️  Response time ({}) exceeds threshold ({})", responseTime, MAX_RESPONSE_TIME);
+            logger.warn("⚠️  Response time ({}) exceeds threshold ({}){}", responseTime, MAX_RESPONSE_TIME,
+                phases == null ? "" : " - " + phases.describe());
         } else {
             logger.info("✅ Response time: {}ms (within threshold)", responseTime);
         }
@@ -65,10 +155,26 @@ public abstract class BaseTest {
     protected void logResponseDetails(Response response, String testName) {
         logger.info("📊 Test: {} - Status: {}, Time: {}ms", 
             testName, response.getStatusCode(), response.getTime());
+        RequestPhases phases = RequestPhases.of(response);
+        if (phases != null) {
+            logger.info("⏱️  Phases: {}", phases.describe());
+        }
         
         if (response.getStatusCode() >= 400) {
-            logger.error("❌ Error response body: {}", response.getBody().asString());
+            logger.error("❌ Error response body: {}", ResponseBodies.preview(response));
+        }
+    }
+    
+    /**
+     * Moves the body of a large response to a memory-mapped temp file so that {@code ApiUtils}
+     * assertions do not keep it on the heap. See {@code large.response.threshold.bytes}.
+     */
+    protected boolean spillIfLarge(Response response) {
+        boolean spilled = ResponseBodies.spillIfLarge(response);
+        if (spilled) {
+            logger.info("💾 Large response body moved to disk for streaming assertions");
         }
+        return spilled;
     }
     
     protected String getTestData(String key, String defaultValue) {
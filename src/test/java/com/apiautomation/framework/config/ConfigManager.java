@@ -2,7 +2,9 @@ package com.apiautomation.framework.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 
 /**
  * Configuration Manager for handling environment-specific configurations
@@ -40,33 +42,60 @@ public class ConfigManager {
         properties.setProperty("retry.count", "3");
         properties.setProperty("ai.enabled", "false");
         properties.setProperty("test.parallel.threads", "4");
+        properties.setProperty("test.parallel.mode", "platform");
         properties.setProperty("max.response.time", "5000");
     }
     
+    /**
+     * Looks up a property, letting a JVM system property of the same name (e.g. -Dsnapshot.update=true)
+     * override the environment file.
+     */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return System.getProperty(key, properties.getProperty(key));
+    }
+    
+    /**
+     * All properties whose key starts with {@code prefix}, keyed by the remainder of the key.
+     * System properties with the same prefix are included and take precedence.
+     */
+    public static Map<String, String> getPropertiesWithPrefix(String prefix) {
+        Map<String, String> matches = new TreeMap<>();
+        for (Properties source : new Properties[] {properties, System.getProperties()}) {
+            for (String key : source.stringPropertyNames()) {
+                if (key.startsWith(prefix) && key.length() > prefix.length()) {
+                    matches.put(key.substring(prefix.length()), source.getProperty(key));
+                }
+            }
+        }
+        return matches;
     }
     
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
     }
     
     public static int getIntProperty(String key, int defaultValue) {
         try {
-            return Integer.parseInt(properties.getProperty(key));
+            return Integer.parseInt(getProperty(key));
         } catch (NumberFormatException e) {
             return defaultValue;
         }
     }
     
-    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+    public static long getLongProperty(String key, long defaultValue) {
         try {
-            return Boolean.parseBoolean(properties.getProperty(key));
-        } catch (Exception e) {
+            return Long.parseLong(getProperty(key));
+        } catch (NumberFormatException e) {
             return defaultValue;
         }
     }
     
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+    
     public static String getBaseUrl() {
         return getProperty("base.url");
     }
@@ -86,4 +115,12 @@ public class ConfigManager {
     public static int getMaxResponseTime() {
         return getIntProperty("max.response.time", 5000);
     }
+    
+    public static long getLargeResponseThreshold() {
+        return getLongProperty("large.response.threshold.bytes", 10L * 1024 * 1024);
+    }
+    
+    public static String getLargeResponseDirectory() {
+        return getProperty("large.response.directory", "target/large-responses");
+    }
 } 
\ No newline at end of file
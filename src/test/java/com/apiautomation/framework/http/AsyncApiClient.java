@@ -0,0 +1,240 @@
+package com.apiautomation.framework.http;
+
+import com.apiautomation.framework.config.ConfigManager;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking HTTP client for firing many requests from one test thread.
+ *
+ * <p>Built on the JDK {@link HttpClient}, so requests in flight do not hold a thread each. Results
+ * are converted to RestAssured {@link Response} objects, which means {@code verifyStatusCode},
+ * {@code verifyResponseTime} and all {@code ApiUtils} assertions work on them unchanged.
+ *
+ * <p>The protocol is chosen by {@code http.transport}: {@code http1} (default) or {@code http2}.
+ * With {@code http2} concurrent requests to a host are multiplexed over one connection; servers
+ * without h2 support are still spoken to over HTTP/1.1. The negotiated protocol of every response
+ * shows in its status line and is counted in {@link TransportMetrics}. Clients for the configured
+ * {@code base.url} share the {@link RateLimiter}, the circuit breakers ({@link CircuitBreakerFilter})
+ * and the {@link LatencyRecorder} with RestAssured requests; clients for other hosts, such as local
+ * stubs, are unthrottled, unguarded and record privately. While an endpoint's breaker is open, its
+ * futures fail at once instead of waiting out {@code api.timeout}.
+ *
+ * <pre>
+ * AsyncApiClient client = AsyncApiClient.create();
+ * List&lt;Response&gt; users = AsyncApiClient.joinAll(IntStream.rangeClosed(1, 10)
+ *         .mapToObj(id -&gt; client.get("/users/" + id))
+ *         .collect(Collectors.toList()));
+ * </pre>
+ */
+public class AsyncApiClient {
+
+    private static final String JSON = "application/json";
+
+    private static final String TRANSPORT_HTTP2 = "http2";
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final RateLimiter rateLimiter;
+    private final LatencyRecorder latencyRecorder;
+    private final CircuitBreakerFilter circuitBreakers;
+
+    protected AsyncApiClient(HttpClient httpClient, String baseUrl, Duration timeout, RateLimiter rateLimiter,
+                             LatencyRecorder latencyRecorder, CircuitBreakerFilter circuitBreakers) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = timeout;
+        this.rateLimiter = rateLimiter;
+        this.latencyRecorder = latencyRecorder;
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    /**
+     * Client for the configured {@code base.url}.
+     */
+    public static AsyncApiClient create() {
+        return create(ConfigManager.getBaseUrl());
+    }
+
+    /**
+     * Client for {@code baseUrl} using the protocol configured by {@code http.transport}.
+     */
+    public static AsyncApiClient create(String baseUrl) {
+        return create(baseUrl, getConfiguredVersion());
+    }
+
+    public static AsyncApiClient create(String baseUrl, HttpClient.Version version) {
+        Duration timeout = Duration.ofMillis(ConfigManager.getApiTimeout());
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        if (!RequestContext.isSuiteTarget(baseUrl)) {
+            return new AsyncApiClient(httpClient, baseUrl, timeout, RateLimiter.unlimited(), new LatencyRecorder(), null);
+        }
+        return new AsyncApiClient(httpClient, baseUrl, timeout, RateLimiter.shared(), LatencyRecorder.shared(),
+                CircuitBreakerFilter.isEnabled() ? CircuitBreakerFilter.shared() : null);
+    }
+
+    /**
+     * Same client, but requests take their permits from {@code limiter} instead of the shared
+     * {@link RateLimiter}, e.g. {@link RateLimiter#unlimited()} for self-paced load.
+     */
+    public AsyncApiClient withRateLimiter(RateLimiter limiter) {
+        return new AsyncApiClient(httpClient, baseUrl, timeout, limiter, latencyRecorder, circuitBreakers);
+    }
+
+    /**
+     * Same client, but latencies go to {@code recorder} instead of the shared
+     * {@link LatencyRecorder}, e.g. to keep load-test traffic out of the suite's percentiles.
+     */
+    public AsyncApiClient withLatencyRecorder(LatencyRecorder recorder) {
+        return new AsyncApiClient(httpClient, baseUrl, timeout, rateLimiter, recorder, circuitBreakers);
+    }
+
+    /**
+     * Same client, but requests are guarded by {@code breakers} instead of the shared ones;
+     * {@code null} sends every request regardless of failures.
+     */
+    public AsyncApiClient withCircuitBreakers(CircuitBreakerFilter breakers) {
+        return new AsyncApiClient(httpClient, baseUrl, timeout, rateLimiter, latencyRecorder, breakers);
+    }
+
+    public static HttpClient.Version getConfiguredVersion() {
+        String transport = ConfigManager.getProperty("http.transport", "http1").trim();
+        return TRANSPORT_HTTP2.equalsIgnoreCase(transport) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Preferred protocol; the one actually negotiated is reported per response by {@link #protocolOf(Response)}.
+     */
+    public HttpClient.Version getVersion() {
+        return httpClient.version();
+    }
+
+    public CompletableFuture<Response> get(String path) {
+        return send("GET", path, null, Collections.emptyMap());
+    }
+
+    public CompletableFuture<Response> post(String path, String jsonBody) {
+        return send("POST", path, jsonBody, Collections.singletonMap("Content-Type", JSON));
+    }
+
+    public CompletableFuture<Response> put(String path, String jsonBody) {
+        return send("PUT", path, jsonBody, Collections.singletonMap("Content-Type", JSON));
+    }
+
+    public CompletableFuture<Response> delete(String path) {
+        return send("DELETE", path, null, Collections.emptyMap());
+    }
+
+    /**
+     * Sends a request without blocking; the future completes when the whole body has arrived.
+     * When the rate limiter asks for a wait, the request is scheduled for later instead of
+     * blocking the caller. As with the filters, an open breaker rejects the request before it
+     * takes a rate-limit permit.
+     */
+    public CompletableFuture<Response> send(String method, String path, String body, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", JSON)
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        headers.forEach(builder::header);
+        HttpRequest request = builder.build();
+
+        CircuitBreaker breaker = circuitBreakers == null ? null
+                : circuitBreakers.breakerFor(method, request.uri().getRawPath());
+        if (breaker != null && !breaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(circuitBreakers.rejection(breaker));
+        }
+        long wait = rateLimiter.reserve(method, path);
+        if (wait <= 0) {
+            return sendNow(request, breaker);
+        }
+        Executor delayed = CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS);
+        return CompletableFuture.supplyAsync(() -> request, delayed).thenCompose(ready -> sendNow(ready, breaker));
+    }
+
+    private CompletableFuture<Response> sendNow(HttpRequest request, CircuitBreaker breaker) {
+        long start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, failure) -> {
+                    long elapsed = System.nanoTime() - start;
+                    latencyRecorder.record(request.method(), request.uri().getRawPath(), elapsed);
+                    if (breaker != null) {
+                        breaker.onResult(failure != null || response.statusCode() >= 500, elapsed / 1_000_000);
+                    }
+                    if (failure != null) {
+                        throw failure instanceof CompletionException
+                                ? (CompletionException) failure : new CompletionException(failure);
+                    }
+                    return toResponse(response, elapsed / 1_000_000);
+                });
+    }
+
+    /**
+     * Waits for all futures and returns their responses in the same order.
+     */
+    public static List<Response> joinAll(List<CompletableFuture<Response>> futures) {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+        return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    /**
+     * Protocol a response was received over, e.g. {@code HTTP/2} or {@code HTTP/1.1}.
+     */
+    public static String protocolOf(Response response) {
+        String statusLine = response.getStatusLine();
+        return statusLine == null ? null : statusLine.split(" ", 2)[0];
+    }
+
+    /**
+     * Converts a JDK response into a RestAssured one, carrying the elapsed time so that
+     * {@link Response#getTime()} reports it, and records the negotiated protocol.
+     */
+    protected static Response toResponse(HttpResponse<byte[]> httpResponse, long elapsedMillis) {
+        String protocol = protocolName(httpResponse.version());
+        TransportMetrics.record(protocol, elapsedMillis);
+
+        List<Header> headers = new ArrayList<>();
+        httpResponse.headers().map().forEach((name, values) ->
+                values.forEach(value -> headers.add(new Header(name, value))));
+
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine(protocol + " " + httpResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(httpResponse.body());
+        httpResponse.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return ResponseTimes.withTime(builder.build(), elapsedMillis);
+    }
+
+    protected static String protocolName(HttpClient.Version version) {
+        return version == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+    }
+}
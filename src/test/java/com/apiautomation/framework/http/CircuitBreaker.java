@@ -0,0 +1,196 @@
+package com.apiautomation.framework.http;
+
+import com.apiautomation.framework.config.ConfigManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker for one endpoint, with the usual closed / open / half-open states.
+ *
+ * <p>While closed, the outcomes of the last {@code window} calls are kept in a ring buffer. Once
+ * at least {@code minimumCalls} are recorded and either the failure rate or the slow-call rate
+ * reaches its threshold, the breaker opens and rejects calls for {@code openMillis}. It then lets
+ * {@code halfOpenCalls} trial calls through; if they stay under both thresholds it closes again,
+ * otherwise it re-opens.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * Thresholds shared by all breakers, read from {@code circuit.breaker.*}.
+     */
+    public static final class Settings {
+        final int window;
+        final int minimumCalls;
+        final double failureRateThreshold;
+        final long slowCallMillis;
+        final double slowCallRateThreshold;
+        final long openMillis;
+        final int halfOpenCalls;
+
+        public Settings(int window, int minimumCalls, double failureRatePercent, long slowCallMillis,
+                        double slowCallRatePercent, long openMillis, int halfOpenCalls) {
+            this.window = Math.max(1, window);
+            this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.window));
+            this.failureRateThreshold = failureRatePercent / 100.0;
+            this.slowCallMillis = slowCallMillis;
+            this.slowCallRateThreshold = slowCallRatePercent / 100.0;
+            this.openMillis = openMillis;
+            this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        }
+
+        public static Settings fromConfig() {
+            return new Settings(
+                    ConfigManager.getIntProperty("circuit.breaker.window.size", 20),
+                    ConfigManager.getIntProperty("circuit.breaker.minimum.calls", 10),
+                    ConfigManager.getIntProperty("circuit.breaker.failure.rate", 50),
+                    ConfigManager.getLongProperty("circuit.breaker.slow.call.ms", ConfigManager.getMaxResponseTime()),
+                    ConfigManager.getIntProperty("circuit.breaker.slow.call.rate", 80),
+                    ConfigManager.getLongProperty("circuit.breaker.open.ms", 30000),
+                    ConfigManager.getIntProperty("circuit.breaker.half.open.calls", 3));
+        }
+    }
+
+    private final String endpoint;
+    private final Settings settings;
+
+    private State state = State.CLOSED;
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int recorded;
+    private int next;
+    private long openedAtNanos;
+    private int trialsStarted;
+    private int trialsFinished;
+    private int trialFailures;
+    private int trialSlowCalls;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    public CircuitBreaker(String endpoint, Settings settings) {
+        this.endpoint = endpoint;
+        this.settings = settings;
+        this.failed = new boolean[settings.window];
+        this.slow = new boolean[settings.window];
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getSlowCallMillis() {
+        return settings.slowCallMillis;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && openWaitElapsed()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Whether a call may go ahead now. Every permitted call must be followed by {@link #onResult}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (!openWaitElapsed()) {
+                rejected.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialsStarted >= settings.halfOpenCalls) {
+                rejected.increment();
+                return false;
+            }
+            trialsStarted++;
+        }
+        return true;
+    }
+
+    public synchronized void onResult(boolean failure, long elapsedMillis) {
+        boolean slowCall = elapsedMillis >= settings.slowCallMillis;
+        calls.increment();
+        if (failure) {
+            failures.increment();
+        }
+        if (slowCall) {
+            slowCalls.increment();
+        }
+
+        if (state == State.HALF_OPEN) {
+            trialsFinished++;
+            trialFailures += failure ? 1 : 0;
+            trialSlowCalls += slowCall ? 1 : 0;
+            if (trialsFinished >= settings.halfOpenCalls) {
+                transitionTo(exceedsThresholds(trialFailures, trialSlowCalls, trialsFinished) ? State.OPEN : State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+
+        failed[next] = failure;
+        slow[next] = slowCall;
+        next = (next + 1) % settings.window;
+        recorded = Math.min(recorded + 1, settings.window);
+        if (recorded >= settings.minimumCalls && exceedsThresholds(count(failed), count(slow), recorded)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private boolean exceedsThresholds(int failureCount, int slowCount, int total) {
+        return (settings.failureRateThreshold > 0 && failureCount >= settings.failureRateThreshold * total)
+                || (settings.slowCallRateThreshold > 0 && slowCount >= settings.slowCallRateThreshold * total);
+    }
+
+    private int count(boolean[] outcomes) {
+        int count = 0;
+        for (int i = 0; i < recorded; i++) {
+            count += outcomes[i] ? 1 : 0;
+        }
+        return count;
+    }
+
+    private boolean openWaitElapsed() {
+        return System.nanoTime() - openedAtNanos >= TimeUnit.MILLISECONDS.toNanos(settings.openMillis);
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        if (newState == State.OPEN) {
+            opened.increment();
+            openedAtNanos = System.nanoTime();
+        }
+        if (newState != State.HALF_OPEN) {
+            recorded = 0;
+            next = 0;
+        }
+        trialsStarted = 0;
+        trialsFinished = 0;
+        trialFailures = 0;
+        trialSlowCalls = 0;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getOpenedCount() {
+        return opened.sum();
+    }
+
+    public String describe() {
+        return String.format("%s: %s, calls=%d, failures=%d, slow=%d, opened=%d, rejected=%d",
+                endpoint, getState(), calls.sum(), failures.sum(), slowCalls.sum(), opened.sum(), rejected.sum());
+    }
+}
@@ -0,0 +1,111 @@
+package com.apiautomation.framework.http;
+
+import com.apiautomation.framework.config.ConfigManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.SkipException;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * RestAssured filter that guards every endpoint ({@link EndpointKey}) with a {@link CircuitBreaker}.
+ *
+ * <p>5xx responses and I/O errors count as failures; calls slower than
+ * {@code circuit.breaker.slow.call.ms} count as slow. While an endpoint's breaker is open, requests
+ * to it are not sent: depending on {@code circuit.breaker.open.action} the test is skipped
+ * ({@code skip}, default) or failed ({@code fail}) immediately instead of waiting for timeouts.
+ */
+public class CircuitBreakerFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerFilter.class);
+
+    private static final CircuitBreakerFilter SHARED = new CircuitBreakerFilter(CircuitBreaker.Settings.fromConfig(),
+            !"fail".equalsIgnoreCase(ConfigManager.getProperty("circuit.breaker.open.action", "skip").trim()));
+
+    private final CircuitBreaker.Settings settings;
+    private final boolean skipWhenOpen;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerFilter(CircuitBreaker.Settings settings, boolean skipWhenOpen) {
+        this.settings = settings;
+        this.skipWhenOpen = skipWhenOpen;
+    }
+
+    /**
+     * Suite-wide breakers configured by {@code circuit.breaker.*}.
+     */
+    public static CircuitBreakerFilter shared() {
+        return SHARED;
+    }
+
+    public static boolean isEnabled() {
+        return ConfigManager.getBooleanProperty("circuit.breaker.enabled", true);
+    }
+
+    /**
+     * Thrown instead of sending a request while the endpoint's breaker is open, failing the test.
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public CircuitOpenException(String message) {
+            super(message);
+        }
+    }
+
+    public CircuitBreaker breakerFor(String method, String path) {
+        return breakers.computeIfAbsent(EndpointKey.of(method, path), endpoint -> new CircuitBreaker(endpoint, settings));
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        CircuitBreaker breaker = breakerFor(requestSpec.getMethod(), requestSpec.getURI());
+        if (!breaker.tryAcquirePermission()) {
+            throw rejection(breaker);
+        }
+
+        // Slow calls are judged on the last attempt, not on retries and their backoff pauses
+        RequestAttempts.Tracker attempts = RequestAttempts.track(System.nanoTime(), null);
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            attempts.close();
+            breaker.onResult(true, (System.nanoTime() - attempts.getAttemptStartNanos()) / 1_000_000);
+            throw e;
+        }
+        attempts.close();
+        breaker.onResult(response.getStatusCode() >= 500, (System.nanoTime() - attempts.getAttemptStartNanos()) / 1_000_000);
+        return response;
+    }
+
+    /**
+     * The exception that stops a request to {@code breaker}'s endpoint while it is open:
+     * a {@link SkipException} or a {@link CircuitOpenException}, per {@code circuit.breaker.open.action}.
+     */
+    RuntimeException rejection(CircuitBreaker breaker) {
+        String message = "Circuit open for " + breaker.getEndpoint() + ", request not sent";
+        logger.warn("⛔ {}", message);
+        return skipWhenOpen ? new SkipException(message) : new CircuitOpenException(message);
+    }
+
+    /**
+     * One line per endpoint whose breaker has opened at least once; empty if none has.
+     */
+    public String describeTripped() {
+        return new TreeMap<>(breakers).values().stream()
+                .filter(breaker -> breaker.getOpenedCount() > 0)
+                .map(CircuitBreaker::describe)
+                .collect(Collectors.joining("\n"));
+    }
+}
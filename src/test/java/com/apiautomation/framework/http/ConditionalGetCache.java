@@ -0,0 +1,303 @@
+package com.apiautomation.framework.http;
+
+import com.apiautomation.framework.config.ConfigManager;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in HTTP cache for GET requests, used as a RestAssured filter.
+ *
+ * <p>Successful GET responses carrying an {@code ETag}, {@code Last-Modified} or
+ * {@code Cache-Control: max-age} are kept in a size-bounded LRU store ({@code http.cache.max.bytes}).
+ * A fresh entry is served without a request (hit); a stale one is revalidated with
+ * {@code If-None-Match} / {@code If-Modified-Since}, and a {@code 304} answer is served from the
+ * stored copy (revalidated). PUT, PATCH, POST and DELETE drop the entry for their URL.
+ *
+ * <p>To force a fresh read for one request, add {@link #bypass()}:
+ * <pre>
+ * given().filter(ConditionalGetCache.shared()).header(ConditionalGetCache.bypass()).get("/users/1");
+ * </pre>
+ */
+public class ConditionalGetCache implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConditionalGetCache.class);
+
+    /** Request header that skips the cache lookup; it is removed before the request is sent. */
+    public static final String BYPASS_HEADER = "X-Framework-Cache-Bypass";
+
+    private static final long DEFAULT_MAX_BYTES = 10L * 1024 * 1024;
+    private static final ConditionalGetCache SHARED =
+            new ConditionalGetCache(ConfigManager.getLongProperty("http.cache.max.bytes", DEFAULT_MAX_BYTES));
+
+    private final long maxBytes;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ConditionalGetCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Suite-wide cache sized by {@code http.cache.max.bytes}.
+     */
+    public static ConditionalGetCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Whether {@code http.cache.enabled} asks for the shared cache on every request.
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.getBooleanProperty("http.cache.enabled", false);
+    }
+
+    public static Header bypass() {
+        return new Header(BYPASS_HEADER, "true");
+    }
+
+    private static final class Entry {
+        final byte[] body;
+        final int statusCode;
+        final String statusLine;
+        final String contentType;
+        final Headers headers;
+        final String etag;
+        final String lastModified;
+        final long freshUntil;
+
+        Entry(Response response, byte[] body, long freshUntil) {
+            this(body, response.getStatusCode(), response.getStatusLine(), response.getContentType(),
+                    response.getHeaders(), response.getHeader("ETag"), response.getHeader("Last-Modified"), freshUntil);
+        }
+
+        private Entry(byte[] body, int statusCode, String statusLine, String contentType, Headers headers,
+                      String etag, String lastModified, long freshUntil) {
+            this.body = body;
+            this.statusCode = statusCode;
+            this.statusLine = statusLine;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.freshUntil = freshUntil;
+        }
+
+        Entry refreshed(long newFreshUntil) {
+            return new Entry(body, statusCode, statusLine, contentType, headers, etag, lastModified, newFreshUntil);
+        }
+
+        Response toResponse(long elapsedMillis) {
+            Response response = new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setStatusLine(statusLine)
+                    .setHeaders(headers)
+                    .setContentType(contentType)
+                    .setBody(body)
+                    .build();
+            return ResponseTimes.withTime(response, elapsedMillis);
+        }
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        boolean bypass = requestSpec.getHeaders().hasHeaderWithName(BYPASS_HEADER);
+        if (bypass) {
+            requestSpec.removeHeader(BYPASS_HEADER);
+        }
+        String method = requestSpec.getMethod().toUpperCase(Locale.ROOT);
+        String key = key(requestSpec);
+
+        if (!"GET".equals(method)) {
+            if (!"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+                invalidateUrl(requestSpec.getURI());
+            }
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        Entry cached = bypass ? null : get(key);
+        if (bypass) {
+            bypasses.increment();
+        } else if (cached != null && System.currentTimeMillis() < cached.freshUntil) {
+            hits.increment();
+            logger.debug("🗄️ Cache hit: {}", key);
+            return cached.toResponse(0);
+        } else if (cached != null) {
+            if (cached.etag != null) {
+                requestSpec.header("If-None-Match", cached.etag);
+            }
+            if (cached.lastModified != null) {
+                requestSpec.header("If-Modified-Since", cached.lastModified);
+            }
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (cached != null && response.getStatusCode() == 304) {
+            revalidations.increment();
+            logger.debug("🗄️ Cache revalidated: {}", key);
+            Entry refreshed = cached.refreshed(freshUntil(response));
+            put(key, refreshed);
+            return refreshed.toResponse(response.getTime());
+        }
+
+        if (!bypass) {
+            misses.increment();
+        }
+        store(key, response);
+        return response;
+    }
+
+    private void store(String key, Response response) {
+        if (response.getStatusCode() != 200 || isNoStore(response)) {
+            invalidate(key);
+            return;
+        }
+        long freshUntil = freshUntil(response);
+        boolean validatable = response.getHeader("ETag") != null || response.getHeader("Last-Modified") != null;
+        if (!validatable && freshUntil <= System.currentTimeMillis()) {
+            invalidate(key);
+            return;
+        }
+        byte[] body = response.asByteArray();
+        if (body.length > maxBytes) {
+            invalidate(key);
+            return;
+        }
+        put(key, new Entry(response, body, freshUntil));
+    }
+
+    private static String key(FilterableRequestSpecification requestSpec) {
+        String accept = requestSpec.getHeaders().getValue("Accept");
+        return requestSpec.getURI() + (accept == null ? "" : " " + accept);
+    }
+
+    private static boolean isNoStore(Response response) {
+        String cacheControl = response.getHeader("Cache-Control");
+        return cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-store");
+    }
+
+    /**
+     * End of the freshness lifetime from {@code Cache-Control: max-age}; {@code no-cache} or a missing
+     * max-age means the entry must be revalidated before every use.
+     */
+    private static long freshUntil(Response response) {
+        String cacheControl = response.getHeader("Cache-Control");
+        if (cacheControl == null) {
+            return 0;
+        }
+        long maxAge = -1;
+        for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            String trimmed = directive.trim();
+            if (trimmed.equals("no-cache")) {
+                return 0;
+            }
+            if (trimmed.startsWith("max-age=")) {
+                try {
+                    maxAge = Long.parseLong(trimmed.substring("max-age=".length()));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return maxAge > 0 ? System.currentTimeMillis() + maxAge * 1000 : 0;
+    }
+
+    private synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            totalBytes -= previous.body.length;
+        }
+        totalBytes += entry.body.length;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().body.length;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private synchronized void invalidate(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.body.length;
+        }
+    }
+
+    /**
+     * Drops every stored representation of {@code url}, whatever Accept header it was fetched with.
+     */
+    public synchronized void invalidateUrl(String url) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> entry = iterator.next();
+            if (entry.getKey().equals(url) || entry.getKey().startsWith(url + " ")) {
+                totalBytes -= entry.getValue().body.length;
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getRevalidationCount() {
+        return revalidations.sum();
+    }
+
+    public long getBypassCount() {
+        return bypasses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public String describeStats() {
+        return String.format("hits=%d, revalidated=%d, misses=%d, bypassed=%d, evicted=%d, entries=%d, bytes=%d",
+                getHitCount(), getRevalidationCount(), getMissCount(), getBypassCount(), getEvictionCount(),
+                size(), getTotalBytes());
+    }
+}
@@ -0,0 +1,168 @@
+package com.apiautomation.framework.http;
+
+import com.apiautomation.framework.config.ConfigManager;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Framework-owned pool of keep-alive HTTP connections shared by all RestAssured requests.
+ *
+ * <p>RestAssured normally builds a new HttpClient, and with it a new TCP/TLS connection, for
+ * every request. The {@link RestAssuredConfig} returned here reuses one client backed by a pooling
+ * connection manager instead, so connections to the same host are kept alive and reused across
+ * requests and test threads. Pool size, per-route limit and idle eviction are read from
+ * {@code http.pool.*}; connect and read timeouts come from {@code api.timeout}. Failed requests
+ * are retried by the client according to {@link RetryPolicy}, and every request's phases are timed
+ * ({@link RequestPhases}).
+ *
+ * <p>RestAssured 5 only accepts the classic {@code AbstractHttpClient} API, hence the deprecated
+ * {@link PoolingClientConnectionManager} and {@link DefaultHttpClient}.
+ */
+@SuppressWarnings("deprecation")
+public final class ConnectionPoolManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolManager.class);
+
+    private static final int MAX_TOTAL = ConfigManager.getIntProperty("http.pool.max.total", 50);
+    private static final int MAX_PER_ROUTE = ConfigManager.getIntProperty("http.pool.max.per.route", 20);
+    private static final long IDLE_TIMEOUT_MS = ConfigManager.getLongProperty("http.pool.idle.timeout", 30000);
+
+    private static final PoolingClientConnectionManager connectionManager = createConnectionManager(MAX_TOTAL, MAX_PER_ROUTE);
+    private static final RestAssuredConfig config = createConfig(connectionManager, RetryPolicy.shared());
+
+    static {
+        startEvictor(connectionManager);
+    }
+
+    private ConnectionPoolManager() {
+    }
+
+    /**
+     * RestAssured configuration that routes requests through the shared connection pool.
+     */
+    public static RestAssuredConfig restAssuredConfig() {
+        return config;
+    }
+
+    /**
+     * Same pooled connections, but requests are retried according to {@code retryPolicy}
+     * instead of the suite-wide {@link RetryPolicy#shared()} policy.
+     */
+    public static RestAssuredConfig restAssuredConfig(RetryPolicy retryPolicy) {
+        return createConfig(connectionManager, retryPolicy);
+    }
+
+    /**
+     * A new pool of its own with at least {@code maxPerRoute} connections per route, e.g. for a load
+     * ramp whose users must not queue on {@code http.pool.max.per.route}. Close it when done.
+     */
+    public static DedicatedPool dedicatedPool(int maxPerRoute) {
+        return new DedicatedPool(Math.max(MAX_TOTAL, maxPerRoute), Math.max(MAX_PER_ROUTE, maxPerRoute));
+    }
+
+    public static int getMaxPerRoute() {
+        return MAX_PER_ROUTE;
+    }
+
+    /**
+     * Totals across all routes: leased, pending, available and max connections.
+     */
+    public static PoolStats getTotalStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    public static String describeStats() {
+        PoolStats stats = getTotalStats();
+        return String.format("leased=%d, pending=%d, available=%d, max=%d",
+                stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax());
+    }
+
+    private static PoolingClientConnectionManager createConnectionManager(int maxTotal, int maxPerRoute) {
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager(
+                PhaseTiming.schemeRegistry(), PhaseTiming.dnsResolver());
+        manager.setMaxTotal(maxTotal);
+        manager.setDefaultMaxPerRoute(maxPerRoute);
+        logger.info("🔌 HTTP connection pool: maxTotal={}, maxPerRoute={}, idleTimeout={}ms",
+                maxTotal, maxPerRoute, IDLE_TIMEOUT_MS);
+        return manager;
+    }
+
+    /**
+     * Starts a daemon thread that closes expired and idle connections of {@code manager}.
+     */
+    private static ScheduledExecutorService startEvictor(PoolingClientConnectionManager manager) {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, IDLE_TIMEOUT_MS / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(IDLE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }, period, period, TimeUnit.MILLISECONDS);
+        return evictor;
+    }
+
+    private static RestAssuredConfig createConfig(PoolingClientConnectionManager connectionManager,
+                                                  RetryPolicy retryPolicy) {
+        int timeout = ConfigManager.getApiTimeout();
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(() -> {
+                    DefaultHttpClient client = new RetryingHttpClient(connectionManager, retryPolicy);
+                    client.setKeepAliveStrategy((response, context) -> {
+                        long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                        return keepAlive > 0 ? Math.min(keepAlive, IDLE_TIMEOUT_MS) : IDLE_TIMEOUT_MS;
+                    });
+                    return client;
+                })
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, timeout)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, timeout);
+        return RestAssuredConfig.config().httpClient(httpClientConfig);
+    }
+
+    /**
+     * A connection pool owned by its user: {@link #close()} closes its connections and stops its
+     * idle-connection evictor.
+     */
+    public static final class DedicatedPool implements AutoCloseable {
+        private final PoolingClientConnectionManager manager;
+        private final ScheduledExecutorService evictor;
+        private final RestAssuredConfig config;
+
+        private DedicatedPool(int maxTotal, int maxPerRoute) {
+            manager = createConnectionManager(maxTotal, maxPerRoute);
+            evictor = startEvictor(manager);
+            config = createConfig(manager, RetryPolicy.shared());
+        }
+
+        /**
+         * RestAssured configuration that routes requests through this pool.
+         */
+        public RestAssuredConfig restAssuredConfig() {
+            return config;
+        }
+
+        public PoolStats getTotalStats() {
+            return manager.getTotalStats();
+        }
+
+        @Override
+        public void close() {
+            evictor.shutdownNow();
+            manager.shutdown();
+        }
+    }
+}
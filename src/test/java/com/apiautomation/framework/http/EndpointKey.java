@@ -0,0 +1,49 @@
+package com.apiautomation.framework.http;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Names an endpoint as {@code METHOD /path/template}, e.g. {@code GET /users/{id}}, so that
+ * per-endpoint settings and statistics apply to all requests for the same route.
+ */
+public final class EndpointKey {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "^(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})$");
+
+    private EndpointKey() {
+    }
+
+    /**
+     * Key for a request; {@code pathOrUri} may be a path or a full URI (query strings are ignored).
+     */
+    public static String of(String method, String pathOrUri) {
+        return method.toUpperCase(Locale.ROOT) + " " + template(pathOrUri);
+    }
+
+    /**
+     * Replaces numeric and UUID path segments with {@code {id}}.
+     */
+    public static String template(String pathOrUri) {
+        String path = pathOrUri;
+        if (path.contains("://")) {
+            path = URI.create(path).getRawPath();
+        } else {
+            int query = path.indexOf('?');
+            path = query >= 0 ? path.substring(0, query) : path;
+        }
+        if (path == null || path.isEmpty() || "/".equals(path)) {
+            return "/";
+        }
+        StringBuilder template = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package com.apiautomation.framework.http;
+
+/**
+ * When the work on the current thread was supposed to start, for coordinated-omission correction.
+ *
+ * <p>A load generator that falls behind its schedule, or whose requests queue for a free worker,
+ * starts requests late. Timing them from their actual start hides that wait, so latency looks
+ * best exactly when the system is saturated. Load runners set the intended start before running
+ * a scenario; {@link LatencyRecordingFilter} then times the scenario's first request from that
+ * point into its corrected recorder, which therefore includes the queueing delay.
+ */
+public final class IntendedStart {
+
+    private static final ThreadLocal<Long> current = new ThreadLocal<>();
+
+    private IntendedStart() {
+    }
+
+    /**
+     * Sets the intended start ({@link System#nanoTime()} based) of the next request on this thread.
+     */
+    public static void set(long nanoTime) {
+        current.set(nanoTime);
+    }
+
+    public static void clear() {
+        current.remove();
+    }
+
+    /**
+     * Returns and clears the intended start, or {@code actualStartNanos} when none is set or it is
+     * later; later requests of the same scenario are then timed from their actual start.
+     */
+    static long take(long actualStartNanos) {
+        Long intended = current.get();
+        current.remove();
+        return intended == null ? actualStartNanos : Math.min(intended, actualStartNanos);
+    }
+}
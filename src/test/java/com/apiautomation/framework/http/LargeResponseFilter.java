@@ -0,0 +1,27 @@
+package com.apiautomation.framework.http;
+
+import com.apiautomation.framework.utils.ResponseBodies;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that spills response bodies above {@code large.response.threshold.bytes}
+ * to a memory-mapped temp file as soon as they arrive.
+ *
+ * <p>Use it for export and bulk endpoints, then assert through {@code ApiUtils}, which reads
+ * spilled bodies from disk instead of the heap.
+ */
+public class LargeResponseFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        ResponseBodies.spillIfLarge(response);
+        return response;
+    }
+}
@@ -0,0 +1,112 @@
+package com.apiautomation.framework.http;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of every framework request, one HdrHistogram per endpoint
+ * ({@link EndpointKey}).
+ *
+ * <p>Values are recorded in microseconds with three significant digits into
+ * {@link ConcurrentHistogram}s, whose writers never block each other, so recording is safe and
+ * cheap from parallel tests and async callbacks. {@link #report()} summarises p50, p90, p99,
+ * p99.9 and max per endpoint; {@code BaseTest} logs it and attaches it to Allure at suite end.
+ */
+public final class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99, 99.9};
+
+    private static final LatencyRecorder SHARED = new LatencyRecorder();
+
+    /** Appended to an endpoint key for the latencies of retried attempts. */
+    public static final String RETRY_SUFFIX = " (retry)";
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Suite-wide recorder fed by RestAssured and {@link AsyncApiClient} requests.
+     */
+    public static LatencyRecorder shared() {
+        return SHARED;
+    }
+
+    public void record(String method, String path, long nanos) {
+        record(EndpointKey.of(method, path), nanos);
+    }
+
+    /**
+     * Records the latency of a retried attempt, apart from first attempts.
+     */
+    public void recordRetry(String method, String path, long nanos) {
+        record(EndpointKey.of(method, path) + RETRY_SUFFIX, nanos);
+    }
+
+    /**
+     * Records a latency for an endpoint key such as {@code "GET /users/{id}"}.
+     */
+    public void record(String endpoint, long nanos) {
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(SIGNIFICANT_DIGITS))
+                .recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    /**
+     * Copy of an endpoint's histogram (values in microseconds), or {@code null} if nothing was recorded.
+     */
+    public Histogram getHistogram(String endpoint) {
+        Histogram histogram = histograms.get(endpoint);
+        return histogram == null ? null : histogram.copy();
+    }
+
+    /**
+     * Copies of all histograms keyed by endpoint, in endpoint order.
+     */
+    public Map<String, Histogram> snapshot() {
+        Map<String, Histogram> snapshot = new TreeMap<>();
+        histograms.forEach((endpoint, histogram) -> snapshot.put(endpoint, histogram.copy()));
+        return snapshot;
+    }
+
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Table of request count and p50/p90/p99/p99.9/max latency in milliseconds per endpoint.
+     */
+    public String report() {
+        return report("Latency (ms)");
+    }
+
+    /**
+     * Same table, with {@code heading} over the endpoint column.
+     */
+    public String report(String heading) {
+        StringBuilder report = new StringBuilder(String.format("%-40s %8s %9s %9s %9s %9s %9s%n",
+                heading, "Count", "p50", "p90", "p99", "p99.9", "max"));
+        snapshot().forEach((endpoint, histogram) -> {
+            report.append(String.format("%-40s %8d", endpoint, histogram.getTotalCount()));
+            for (double percentile : REPORTED_PERCENTILES) {
+                report.append(String.format(" %9.1f", millis(histogram.getValueAtPercentile(percentile))));
+            }
+            report.append(String.format(" %9.1f%n", millis(histogram.getMaxValue())));
+        });
+        return report.toString();
+    }
+
+    /**
+     * Converts a recorded value (microseconds) to milliseconds.
+     */
+    public static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
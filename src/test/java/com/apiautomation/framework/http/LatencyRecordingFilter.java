@@ -0,0 +1,67 @@
+package com.apiautomation.framework.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that records each request's latency in a {@link LatencyRecorder}. Added after
+ * the cache, rate limiter and circuit breaker, so cache hits and throttling waits are not counted.
+ * Requests that fail with a timeout or I/O error are recorded too, up to the moment they failed.
+ *
+ * <p>Each attempt is recorded on its own (see {@link RequestAttempts}): first attempts under the
+ * endpoint's key, retries under the key with {@value LatencyRecorder#RETRY_SUFFIX}, so backoff
+ * pauses never show up as latency and SLOs are judged on first attempts.
+ *
+ * <p>With a second, corrected recorder, first attempts are also recorded from the thread's
+ * {@link IntendedStart} when one is set, i.e. including the time the request waited to be sent.
+ */
+public class LatencyRecordingFilter implements Filter {
+
+    private final LatencyRecorder recorder;
+    private final LatencyRecorder correctedRecorder;
+
+    public LatencyRecordingFilter() {
+        this(LatencyRecorder.shared());
+    }
+
+    public LatencyRecordingFilter(LatencyRecorder recorder) {
+        this(recorder, null);
+    }
+
+    public LatencyRecordingFilter(LatencyRecorder recorder, LatencyRecorder correctedRecorder) {
+        this.recorder = recorder;
+        this.correctedRecorder = correctedRecorder;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String uri = requestSpec.getURI();
+        long start = System.nanoTime();
+        long intendedStart = IntendedStart.take(start);
+        RequestAttempts.Tracker attempts = RequestAttempts.track(start,
+                (attempt, attemptStart, attemptEnd) -> record(method, uri, attempt, attemptStart, attemptEnd, intendedStart));
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            attempts.close();
+            record(method, uri, attempts.getAttempt(), attempts.getAttemptStartNanos(), System.nanoTime(), intendedStart);
+        }
+    }
+
+    private void record(String method, String uri, int attempt, long start, long end, long intendedStart) {
+        if (attempt > 0) {
+            recorder.recordRetry(method, uri, end - start);
+            return;
+        }
+        recorder.record(method, uri, end - start);
+        if (correctedRecorder != null) {
+            correctedRecorder.record(method, uri, end - intendedStart);
+        }
+    }
+}
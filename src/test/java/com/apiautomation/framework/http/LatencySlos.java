@@ -0,0 +1,218 @@
+package com.apiautomation.framework.http;
+
+import com.apiautomation.framework.config.ConfigManager;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Per-endpoint latency objectives, checked against the {@link LatencyRecorder} when the suite ends.
+ *
+ * <p>Objectives are configured as {@code slo.METHOD./path/template.pNN=millis}, e.g.
+ * {@code slo.GET./users.p95=300} or {@code slo.GET./users/{id}.p99.9=800}. A percentile is only
+ * judged once the endpoint has at least {@code slo.min.samples} requests and enough of them that
+ * at least one lies above the percentile ({@code 1 / (1 - p)}: 20 for p95, 100 for p99). Below
+ * that the percentile would be decided by the slowest single request, so one outlier cannot fail
+ * the build, while a shift of the whole distribution still does.
+ */
+public final class LatencySlos {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencySlos.class);
+
+    private static final String PREFIX = "slo.";
+    private static final Pattern KEY = Pattern.compile("^([A-Za-z]+)\\.(/.*?)\\.p(\\d+(?:\\.\\d+)?)$");
+
+    private final List<Slo> slos;
+    private final int minSamples;
+
+    public LatencySlos(List<Slo> slos, int minSamples) {
+        this.slos = Collections.unmodifiableList(new ArrayList<>(slos));
+        this.minSamples = Math.max(1, minSamples);
+    }
+
+    /**
+     * Objectives from the {@code slo.*} properties of the current environment.
+     */
+    public static LatencySlos fromConfig() {
+        return new LatencySlos(parse(ConfigManager.getPropertiesWithPrefix(PREFIX)),
+                ConfigManager.getIntProperty("slo.min.samples", 20));
+    }
+
+    /**
+     * Parses {@code METHOD./path.pNN=millis} entries (the {@code slo.} prefix already removed);
+     * other keys are ignored.
+     */
+    public static List<Slo> parse(Map<String, String> properties) {
+        List<Slo> slos = new ArrayList<>();
+        properties.forEach((key, value) -> {
+            Matcher matcher = KEY.matcher(key);
+            if (!matcher.matches()) {
+                if (key.contains("/")) {
+                    logger.warn("⚠️ Ignoring SLO '{}{}': expected METHOD./path.pNN", PREFIX, key);
+                }
+                return;
+            }
+            double percentile = Double.parseDouble(matcher.group(3));
+            if (percentile <= 0 || percentile >= 100) {
+                logger.warn("⚠️ Ignoring SLO '{}{}': percentile must be between 0 and 100", PREFIX, key);
+                return;
+            }
+            slos.add(new Slo(EndpointKey.of(matcher.group(1), matcher.group(2)), percentile,
+                    Double.parseDouble(value.trim())));
+        });
+        return slos;
+    }
+
+    public List<Slo> getSlos() {
+        return slos;
+    }
+
+    public boolean isEmpty() {
+        return slos.isEmpty();
+    }
+
+    /**
+     * Checks every objective against the recorded latencies.
+     */
+    public Report check(LatencyRecorder recorder) {
+        List<Result> results = new ArrayList<>();
+        for (Slo slo : slos) {
+            Histogram histogram = recorder.getHistogram(slo.getEndpoint());
+            long samples = histogram == null ? 0 : histogram.getTotalCount();
+            long required = Math.max(minSamples, (long) Math.ceil(100 / (100 - slo.getPercentile()) - 1e-9));
+            if (samples < required) {
+                results.add(new Result(slo, samples, required, Double.NaN, Status.INSUFFICIENT_SAMPLES));
+                continue;
+            }
+            double actual = LatencyRecorder.millis(histogram.getValueAtPercentile(slo.getPercentile()));
+            results.add(new Result(slo, samples, required, actual,
+                    actual > slo.getThresholdMillis() ? Status.BREACHED : Status.MET));
+        }
+        return new Report(results);
+    }
+
+    /**
+     * Throws an {@link AssertionError} with the results table if any objective was breached.
+     */
+    public Report enforce(LatencyRecorder recorder) {
+        Report report = check(recorder);
+        if (report.isBreached()) {
+            throw new AssertionError("Latency SLOs breached:\n" + report);
+        }
+        return report;
+    }
+
+    /**
+     * Latency objective for one endpoint percentile.
+     */
+    public static final class Slo {
+        private final String endpoint;
+        private final double percentile;
+        private final double thresholdMillis;
+
+        public Slo(String endpoint, double percentile, double thresholdMillis) {
+            this.endpoint = endpoint;
+            this.percentile = percentile;
+            this.thresholdMillis = thresholdMillis;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public double getThresholdMillis() {
+            return thresholdMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("p%s <= %.0fms", formatPercentile(percentile), thresholdMillis);
+        }
+    }
+
+    public enum Status { MET, BREACHED, INSUFFICIENT_SAMPLES }
+
+    public static final class Result {
+        private final Slo slo;
+        private final long samples;
+        private final long requiredSamples;
+        private final double actualMillis;
+        private final Status status;
+
+        Result(Slo slo, long samples, long requiredSamples, double actualMillis, Status status) {
+            this.slo = slo;
+            this.samples = samples;
+            this.requiredSamples = requiredSamples;
+            this.actualMillis = actualMillis;
+            this.status = status;
+        }
+
+        public Slo getSlo() {
+            return slo;
+        }
+
+        public long getSamples() {
+            return samples;
+        }
+
+        /**
+         * Measured percentile in milliseconds; {@code NaN} without enough samples.
+         */
+        public double getActualMillis() {
+            return actualMillis;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+    }
+
+    /**
+     * Results of a check, printable as a table.
+     */
+    public static final class Report {
+        private final List<Result> results;
+
+        Report(List<Result> results) {
+            this.results = Collections.unmodifiableList(results);
+        }
+
+        public List<Result> getResults() {
+            return results;
+        }
+
+        public boolean isBreached() {
+            return results.stream().anyMatch(result -> result.status == Status.BREACHED);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder table = new StringBuilder(String.format("%-40s %-16s %10s %8s  %s%n",
+                    "Endpoint", "SLO", "Actual", "Samples", "Status"));
+            for (Result result : results) {
+                String actual = Double.isNaN(result.actualMillis) ? "-" : String.format("%.1fms", result.actualMillis);
+                String status = result.status == Status.INSUFFICIENT_SAMPLES
+                        ? "NOT JUDGED (needs " + result.requiredSamples + " samples)"
+                        : result.status.name();
+                table.append(String.format("%-40s %-16s %10s %8d  %s%n",
+                        result.slo.getEndpoint(), result.slo, actual, result.samples, status));
+            }
+            return table.toString();
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,223 @@
+package com.apiautomation.framework.http;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Instrumented HttpClient parts that record {@link RequestPhases} for the request being sent on
+ * the calling thread: a DNS resolver and socket factories for the connection pool, a request
+ * executor for the write and time-to-first-byte phases, and an entity wrapper for the body.
+ */
+@SuppressWarnings("deprecation")
+final class PhaseTiming {
+
+    private PhaseTiming() {
+    }
+
+    static DnsResolver dnsResolver() {
+        return host -> {
+            long start = System.nanoTime();
+            InetAddress[] addresses = SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            record(start, RequestPhases::recordDns);
+            return addresses;
+        };
+    }
+
+    /**
+     * The default {@code http} and {@code https} schemes with connect and TLS handshake timing.
+     */
+    static SchemeRegistry schemeRegistry() {
+        SchemeRegistry registry = SchemeRegistryFactory.createDefault();
+        for (String name : registry.getSchemeNames()) {
+            Scheme scheme = registry.getScheme(name);
+            registry.register(new Scheme(name, scheme.getDefaultPort(), TimedSocketFactory.wrap(scheme.getSchemeSocketFactory())));
+        }
+        return registry;
+    }
+
+    static HttpEntity timedEntity(HttpEntity entity, RequestPhases phases) {
+        return new HttpEntityWrapper(entity) {
+            @Override
+            public InputStream getContent() throws IOException {
+                return new FilterInputStream(super.getContent()) {
+                    @Override
+                    public int read() throws IOException {
+                        long start = System.nanoTime();
+                        try {
+                            return super.read();
+                        } finally {
+                            phases.addBody(System.nanoTime() - start);
+                        }
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        long start = System.nanoTime();
+                        try {
+                            return super.read(buffer, offset, length);
+                        } finally {
+                            phases.addBody(System.nanoTime() - start);
+                        }
+                    }
+                };
+            }
+
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                long start = System.nanoTime();
+                try {
+                    super.writeTo(out);
+                } finally {
+                    phases.addBody(System.nanoTime() - start);
+                }
+            }
+        };
+    }
+
+    /**
+     * Times writing the request and waiting for the response head.
+     */
+    static final class TimedRequestExecutor extends HttpRequestExecutor {
+
+        @Override
+        protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection connection, HttpContext context)
+                throws IOException, HttpException {
+            long start = System.nanoTime();
+            HttpResponse response = super.doSendRequest(request, connection, context);
+            record(start, RequestPhases::recordWrite);
+            return response;
+        }
+
+        @Override
+        protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection connection, HttpContext context)
+                throws IOException, HttpException {
+            long start = System.nanoTime();
+            HttpResponse response = super.doReceiveResponse(request, connection, context);
+            record(start, RequestPhases::recordFirstByte);
+            return response;
+        }
+    }
+
+    /**
+     * Times the TCP connect.
+     */
+    private static class TimedSocketFactory implements SchemeSocketFactory {
+
+        final SchemeSocketFactory delegate;
+
+        TimedSocketFactory(SchemeSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        static SchemeSocketFactory wrap(SchemeSocketFactory delegate) {
+            return delegate instanceof SchemeLayeredSocketFactory
+                    ? new TimedLayeredSocketFactory((SchemeLayeredSocketFactory) delegate)
+                    : new TimedSocketFactory(delegate);
+        }
+
+        @Override
+        public Socket createSocket(HttpParams params) throws IOException {
+            return delegate.createSocket(params);
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, UnknownHostException, ConnectTimeoutException {
+            long start = System.nanoTime();
+            Socket connected = delegate.connectSocket(socket, remoteAddress, localAddress, params);
+            record(start, RequestPhases::recordConnect);
+            return connected;
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) throws IllegalArgumentException {
+            return delegate.isSecure(socket);
+        }
+    }
+
+    /**
+     * Times the TCP connect and the TLS handshake separately: the TCP connection is opened on a
+     * plain socket, which the wrapped factory then layers with TLS.
+     */
+    private static final class TimedLayeredSocketFactory extends TimedSocketFactory implements SchemeLayeredSocketFactory {
+
+        private final SchemeLayeredSocketFactory layered;
+
+        TimedLayeredSocketFactory(SchemeLayeredSocketFactory delegate) {
+            super(delegate);
+            this.layered = delegate;
+        }
+
+        @Override
+        public Socket createSocket(HttpParams params) {
+            return new Socket();
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, UnknownHostException, ConnectTimeoutException {
+            Socket plain = socket != null ? socket : new Socket();
+            if (localAddress != null) {
+                plain.setReuseAddress(HttpConnectionParams.getSoReuseaddr(params));
+                plain.bind(localAddress);
+            }
+            plain.setSoTimeout(HttpConnectionParams.getSoTimeout(params));
+            long start = System.nanoTime();
+            try {
+                plain.connect(remoteAddress, HttpConnectionParams.getConnectionTimeout(params));
+            } catch (SocketTimeoutException e) {
+                throw new ConnectTimeoutException("Connect to " + remoteAddress + " timed out");
+            }
+            record(start, RequestPhases::recordConnect);
+
+            String host = remoteAddress instanceof HttpInetSocketAddress
+                    ? ((HttpInetSocketAddress) remoteAddress).getHttpHost().getHostName()
+                    : remoteAddress.getHostName();
+            return createLayeredSocket(plain, host, remoteAddress.getPort(), params);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params)
+                throws IOException, UnknownHostException {
+            long start = System.nanoTime();
+            Socket tls = layered.createLayeredSocket(socket, target, port, params);
+            record(start, RequestPhases::recordTls);
+            return tls;
+        }
+    }
+
+    private static void record(long startNanos, ObjLongConsumer<RequestPhases> recorder) {
+        RequestPhases phases = RequestPhases.current();
+        if (phases != null) {
+            recorder.accept(phases, System.nanoTime() - startNanos);
+        }
+    }
+}
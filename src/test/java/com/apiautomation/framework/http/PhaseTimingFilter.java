@@ -0,0 +1,27 @@
+package com.apiautomation.framework.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that ties the {@link RequestPhases} recorded by the pooled client to the
+ * response, see {@link RequestPhases#of(Response)}. Added first so that it sees the final response.
+ */
+public class PhaseTimingFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        RequestPhases.take();
+        Response response = ctx.next(requestSpec, responseSpec);
+        RequestPhases phases = RequestPhases.take();
+        if (phases != null && response != null) {
+            RequestPhases.attach(response, phases);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,55 @@
+package com.apiautomation.framework.http;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that waits for a {@link RateLimiter} permit before sending each request.
+ *
+ * <p>While the request is being sent, the limiter is exposed to the sending thread through
+ * {@link #activeLimiter()}, so that {@link RetryingHttpClient} takes a permit from the same
+ * limiter for every retry of it.
+ */
+public class RateLimitFilter implements Filter {
+
+    private static final ThreadLocal<RateLimiter> active = new ThreadLocal<>();
+
+    private final RateLimiter limiter;
+
+    public RateLimitFilter() {
+        this(RateLimiter.shared());
+    }
+
+    public RateLimitFilter(RateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        limiter.acquire(requestSpec.getMethod(), requestSpec.getURI());
+        RateLimiter outer = active.get();
+        active.set(limiter);
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            if (outer != null) {
+                active.set(outer);
+            } else {
+                active.remove();
+            }
+        }
+    }
+
+    /**
+     * Limiter that admitted the request being sent on the calling thread, or {@code null} if the
+     * request did not go through a {@code RateLimitFilter}.
+     */
+    static RateLimiter activeLimiter() {
+        return active.get();
+    }
+}
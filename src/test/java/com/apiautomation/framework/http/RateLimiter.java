@@ -0,0 +1,166 @@
+package com.apiautomation.framework.http;
+
+import com.apiautomation.framework.config.ConfigManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Keeps the request rate under the target environment's limit.
+ *
+ * <p>All framework requests take a permit from a suite-wide {@link TokenBucket} sized by
+ * {@code max.throughput} (requests per second, {@code 0} = unlimited) and, where configured, from
+ * an endpoint bucket set with {@code max.throughput.METHOD./path/template}, e.g.
+ * {@code max.throughput.GET./users/{id}=20}. Bursts are limited to {@code max.throughput.burst}
+ * requests (default: a tenth of a second's worth).
+ *
+ * <p>Requests, throttled waits and time spent waiting are counted, so the end-of-run report shows
+ * the throughput actually achieved.
+ */
+public final class RateLimiter {
+
+    private static final String PREFIX = "max.throughput.";
+    private static final RateLimiter SHARED = fromConfig();
+    private static final RateLimiter UNLIMITED = new RateLimiter(0, Collections.emptyMap(), 1);
+
+    private final TokenBucket global;
+    private final Map<String, TokenBucket> endpoints = new HashMap<>();
+    private final Map<String, LongAdder> requestsPerEndpoint = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder waitedNanos = new LongAdder();
+    private final AtomicLong firstRequestNanos = new AtomicLong();
+    private volatile long lastRequestNanos;
+
+    /**
+     * @param requestsPerSecond suite-wide limit, {@code 0} for none
+     * @param endpointLimits    limits keyed by {@link EndpointKey} ({@code "GET /users/{id}"})
+     * @param burst             requests allowed back to back before the rate applies
+     */
+    public RateLimiter(double requestsPerSecond, Map<String, Double> endpointLimits, int burst) {
+        this.global = requestsPerSecond > 0 ? new TokenBucket(requestsPerSecond, burst) : null;
+        endpointLimits.forEach((endpoint, limit) -> {
+            if (limit > 0) {
+                endpoints.put(endpoint, new TokenBucket(limit, Math.max(1, (int) Math.min(burst, limit / 10))));
+            }
+        });
+    }
+
+    /**
+     * Suite-wide limiter built from {@code max.throughput*}.
+     */
+    public static RateLimiter shared() {
+        return SHARED;
+    }
+
+    /**
+     * A limiter that never waits, e.g. for load generators that pace themselves.
+     */
+    public static RateLimiter unlimited() {
+        return UNLIMITED;
+    }
+
+    public boolean isEnabled() {
+        return global != null || !endpoints.isEmpty();
+    }
+
+    /**
+     * Reserves a permit for {@code method path} and returns how long to wait before sending, in nanos.
+     */
+    public long reserve(String method, String path) {
+        String endpoint = EndpointKey.of(method, path);
+        long wait = global != null ? global.reserve() : 0;
+        TokenBucket endpointBucket = endpoints.get(endpoint);
+        if (endpointBucket != null) {
+            wait = Math.max(wait, endpointBucket.reserve());
+        }
+
+        long now = System.nanoTime();
+        firstRequestNanos.compareAndSet(0, now);
+        lastRequestNanos = now + wait;
+        requests.increment();
+        requestsPerEndpoint.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        if (wait > 0) {
+            throttled.increment();
+            waitedNanos.add(wait);
+        }
+        return wait;
+    }
+
+    /**
+     * Blocks until {@code method path} may be sent. Returns the nanos waited.
+     */
+    public long acquire(String method, String path) {
+        long wait = reserve(method, path);
+        long deadline = System.nanoTime() + wait;
+        for (long remaining = wait; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+        return wait;
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    public long getWaitedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitedNanos.sum());
+    }
+
+    /**
+     * Requests per second between the first and the last request.
+     */
+    public double getActualThroughput() {
+        long first = firstRequestNanos.get();
+        long elapsed = lastRequestNanos - first;
+        long count = requests.sum();
+        if (first == 0 || count < 2 || elapsed <= 0) {
+            return count;
+        }
+        return (count - 1) * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    public String describe() {
+        String limit = global == null ? "unlimited" : String.format("%.0f req/s", global.getPermitsPerSecond());
+        return String.format("%d requests at %.1f req/s (limit %s), throttled %d (%dms waited)",
+                getRequestCount(), getActualThroughput(), limit, getThrottledCount(), getWaitedMillis());
+    }
+
+    /**
+     * Multi-line throughput report with per-endpoint request counts and limits.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Throughput: ").append(describe()).append('\n');
+        new TreeMap<>(requestsPerEndpoint).forEach((endpoint, count) -> {
+            TokenBucket bucket = endpoints.get(endpoint);
+            report.append(String.format("  %-40s %8d requests%s%n", endpoint, count.sum(),
+                    bucket == null ? "" : String.format(" (limit %.0f req/s)", bucket.getPermitsPerSecond())));
+        });
+        return report.toString();
+    }
+
+    private static RateLimiter fromConfig() {
+        double limit = ConfigManager.getIntProperty("max.throughput", 0);
+        int burst = ConfigManager.getIntProperty("max.throughput.burst", (int) Math.max(1, limit / 10));
+        Map<String, Double> endpointLimits = new HashMap<>();
+        ConfigManager.getPropertiesWithPrefix(PREFIX).forEach((key, value) -> {
+            int dot = key.indexOf('.');
+            if (dot > 0 && key.startsWith("/", dot + 1)) {
+                endpointLimits.put(EndpointKey.of(key.substring(0, dot), key.substring(dot + 1)),
+                        Double.parseDouble(value.trim()));
+            }
+        });
+        return new RateLimiter(limit, endpointLimits, burst);
+    }
+}
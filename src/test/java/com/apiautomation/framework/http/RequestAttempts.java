@@ -0,0 +1,94 @@
+package com.apiautomation.framework.http;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Attempt boundaries of the request being sent on the current thread.
+ *
+ * <p>Filters run once per request, while {@link RetryingHttpClient} may send it several times
+ * underneath them, with backoff pauses in between. A filter that times requests opens a
+ * {@link Tracker} around {@code ctx.next(...)}; the client reports when each attempt starts and when
+ * one is given up for a retry, so the filter can time attempts one by one instead of the whole
+ * sequence including the pauses. Without a retrying client the only attempt starts with the tracker.
+ */
+final class RequestAttempts {
+
+    /**
+     * Told about every attempt that was given up for a retry.
+     */
+    @FunctionalInterface
+    interface Observer {
+        void retried(int attempt, long startNanos, long endNanos);
+    }
+
+    private static final ThreadLocal<Deque<Tracker>> active = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private RequestAttempts() {
+    }
+
+    /**
+     * Starts tracking the attempts of the request about to be sent on this thread; close the
+     * tracker once {@code ctx.next(...)} returns or throws.
+     */
+    static Tracker track(long startNanos, Observer observer) {
+        Tracker tracker = new Tracker(startNanos, observer);
+        active.get().push(tracker);
+        return tracker;
+    }
+
+    /**
+     * Called by the client when an attempt is sent.
+     */
+    static void attemptStarted(long nanos) {
+        for (Tracker tracker : active.get()) {
+            tracker.start = nanos;
+        }
+    }
+
+    /**
+     * Called by the client when an attempt ended at {@code nanos} and will be retried.
+     */
+    static void attemptRetried(long nanos) {
+        for (Tracker tracker : active.get()) {
+            if (tracker.observer != null) {
+                tracker.observer.retried(tracker.attempt, tracker.start, nanos);
+            }
+            tracker.attempt++;
+            tracker.start = nanos;
+        }
+    }
+
+    /**
+     * Attempts of one request, as seen by one filter.
+     */
+    static final class Tracker implements AutoCloseable {
+        private final Observer observer;
+        private int attempt;
+        private long start;
+
+        private Tracker(long startNanos, Observer observer) {
+            this.start = startNanos;
+            this.observer = observer;
+        }
+
+        /**
+         * Number of the current (after {@code close()}, the last) attempt; {@code 0} is the first.
+         */
+        int getAttempt() {
+            return attempt;
+        }
+
+        /**
+         * When the current (after {@code close()}, the last) attempt was sent.
+         */
+        long getAttemptStartNanos() {
+            return start;
+        }
+
+        @Override
+        public void close() {
+            active.get().remove(this);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.apiautomation.framework.http;
+
+import com.apiautomation.framework.config.ConfigManager;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.specification.RequestSpecification;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-thread request settings, used instead of the global {@code RestAssured.baseURI} and
+ * {@code RestAssured.config} statics so that tests can run with {@code parallel="methods"}.
+ *
+ * <p>Each context wraps a {@link RequestSpecification} holding the base URI, the pooled connection
+ * config, logging on validation failure and the framework filters. Specs are built once per base
+ * URI and shared; {@link #given()} only copies them into a new request. {@code BaseTest} binds a
+ * context to the test thread before each test method and releases it afterwards.
+ *
+ * <p>Only contexts for the configured {@code base.url} go through the suite-wide rate limiter,
+ * circuit breakers and latency recorder. Their {@link EndpointKey}s carry no host, so traffic to a
+ * local stub would otherwise be counted under the real API's endpoints.
+ */
+public final class RequestContext {
+
+    private static final Map<String, RequestSpecification> specs = new ConcurrentHashMap<>();
+    private static final ThreadLocal<RequestContext> current = new ThreadLocal<>();
+
+    private final String baseUri;
+    private final RequestSpecification specification;
+
+    private RequestContext(String baseUri, RequestSpecification specification) {
+        this.baseUri = baseUri;
+        this.specification = specification;
+    }
+
+    /**
+     * Binds a context for {@code baseUri} to the calling thread.
+     */
+    public static RequestContext open(String baseUri) {
+        return open(forBaseUri(baseUri));
+    }
+
+    /**
+     * Binds {@code context} to the calling thread, e.g. one made by {@link #withFilters}.
+     */
+    public static RequestContext open(RequestContext context) {
+        current.set(context);
+        return context;
+    }
+
+    /**
+     * The context bound to the calling thread, or an unbound one for the configured {@code base.url}.
+     */
+    public static RequestContext current() {
+        RequestContext context = current.get();
+        return context != null ? context : forBaseUri(ConfigManager.getBaseUrl());
+    }
+
+    /**
+     * A context for {@code baseUri} that is not bound to any thread, e.g. for a local stub.
+     */
+    public static RequestContext forBaseUri(String baseUri) {
+        return new RequestContext(baseUri, specs.computeIfAbsent(baseUri, RequestContext::buildSpecification));
+    }
+
+    /**
+     * A context for {@code baseUri} with the pooled connection config and only {@code filters}
+     * instead of the framework's shared ones, e.g. a load generator that paces itself and records
+     * its own latencies. The spec is not cached.
+     */
+    public static RequestContext withFilters(String baseUri, Filter... filters) {
+        return withFilters(baseUri, ConnectionPoolManager.restAssuredConfig(), filters);
+    }
+
+    /**
+     * Same, but requests use {@code config}, e.g. that of a {@link ConnectionPoolManager.DedicatedPool}.
+     */
+    public static RequestContext withFilters(String baseUri, RestAssuredConfig config, Filter... filters) {
+        RequestSpecBuilder builder = baseBuilder(baseUri, config);
+        for (Filter filter : filters) {
+            builder.addFilter(filter);
+        }
+        return new RequestContext(baseUri, builder.build());
+    }
+
+    /**
+     * Whether {@code baseUri} has the scheme, host and port of the configured {@code base.url}.
+     */
+    public static boolean isSuiteTarget(String baseUri) {
+        String configured = ConfigManager.getBaseUrl();
+        if (configured == null || baseUri == null) {
+            return false;
+        }
+        URI target = URI.create(baseUri.trim());
+        URI suite = URI.create(configured.trim());
+        return target.getHost() != null
+                && target.getHost().equalsIgnoreCase(suite.getHost())
+                && String.valueOf(target.getScheme()).equalsIgnoreCase(suite.getScheme())
+                && port(target) == port(suite);
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() >= 0) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    public static void close() {
+        current.remove();
+    }
+
+    /**
+     * Starts a request from this context's cached specification.
+     */
+    public RequestSpecification given() {
+        return RestAssured.given().spec(specification);
+    }
+
+    public String getBaseUri() {
+        return baseUri;
+    }
+
+    public RequestSpecification getSpecification() {
+        return specification;
+    }
+
+    private static RequestSpecBuilder baseBuilder(String baseUri, RestAssuredConfig config) {
+        return new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setConfig(config.logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails()));
+    }
+
+    private static RequestSpecification buildSpecification(String baseUri) {
+        RequestSpecBuilder builder = baseBuilder(baseUri, ConnectionPoolManager.restAssuredConfig())
+                .addFilter(new PhaseTimingFilter());
+        if (ConditionalGetCache.isEnabled()) {
+            builder.addFilter(ConditionalGetCache.shared());
+        }
+        if (!isSuiteTarget(baseUri)) {
+            return builder.build();
+        }
+        if (RateLimiter.shared().isEnabled()) {
+            builder.addFilter(new RateLimitFilter());
+        }
+        if (CircuitBreakerFilter.isEnabled()) {
+            builder.addFilter(CircuitBreakerFilter.shared());
+        }
+        builder.addFilter(new LatencyRecordingFilter());
+        return builder.build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.apiautomation.framework.http;
+
+import io.restassured.response.Response;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Nanosecond timings of the phases of one HTTP request: DNS lookup, TCP connect, TLS handshake,
+ * request write, time to first byte (waiting for the response head) and body read.
+ *
+ * <p>The pooled HttpClient fills in the phases on the calling thread (see {@link PhaseTiming});
+ * {@link PhaseTimingFilter} then ties them to the RestAssured {@link Response}. DNS, connect and
+ * TLS are only measured when a new connection is opened and are {@link #NOT_MEASURED} when a
+ * pooled connection was reused. The body phase is the time spent reading the body stream, so it
+ * grows until the body has been read completely.
+ *
+ * <p>Requests sent on a thread are also collected per thread, so {@code BaseTest} can attach a
+ * table of every request a test made to its Allure result.
+ */
+public final class RequestPhases {
+
+    public static final long NOT_MEASURED = -1;
+
+    private static final int MAX_RECORDED_PER_THREAD = 500;
+
+    private static final ThreadLocal<RequestPhases> current = new ThreadLocal<>();
+    private static final ThreadLocal<List<RequestPhases>> recorded = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<Response, RequestPhases> byResponse = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String request;
+    private volatile int statusCode;
+    private volatile long dnsNanos = NOT_MEASURED;
+    private volatile long connectNanos = NOT_MEASURED;
+    private volatile long tlsNanos = NOT_MEASURED;
+    private volatile long writeNanos;
+    private volatile long firstByteNanos;
+    private volatile long bodyNanos;
+
+    RequestPhases(String method, URI uri) {
+        this.request = method + " " + (uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+    }
+
+    /**
+     * Starts timing a request sent on the calling thread; replaces any earlier, unclaimed timings.
+     */
+    static RequestPhases begin(String method, URI uri) {
+        RequestPhases phases = new RequestPhases(method, uri);
+        current.set(phases);
+        return phases;
+    }
+
+    /**
+     * Timings of the request being sent on the calling thread, or {@code null}.
+     */
+    static RequestPhases current() {
+        return current.get();
+    }
+
+    /**
+     * Removes and returns the calling thread's latest timings, or {@code null} if no request was sent.
+     */
+    static RequestPhases take() {
+        RequestPhases phases = current.get();
+        current.remove();
+        return phases;
+    }
+
+    /**
+     * Ties the timings to {@code response} and adds them to the calling thread's record.
+     */
+    static void attach(Response response, RequestPhases phases) {
+        phases.statusCode = response.getStatusCode();
+        byResponse.put(response, phases);
+        List<RequestPhases> list = recorded.get();
+        if (list.size() < MAX_RECORDED_PER_THREAD) {
+            list.add(phases);
+        }
+    }
+
+    /**
+     * Phase timings of a response sent through the framework, or {@code null} if it was not sent
+     * over the pooled client (e.g. served from the response cache).
+     */
+    public static RequestPhases of(Response response) {
+        return byResponse.get(response);
+    }
+
+    /**
+     * Table of the requests recorded on the calling thread since the last call; empty if none.
+     */
+    public static String drainReport() {
+        List<RequestPhases> list = recorded.get();
+        if (list.isEmpty()) {
+            return "";
+        }
+        StringBuilder report = new StringBuilder(String.format("%-40s %6s %9s %9s %9s %9s %9s %9s%n",
+                "Request (ms)", "Status", "DNS", "Connect", "TLS", "Write", "TTFB", "Body"));
+        for (RequestPhases phases : list) {
+            report.append(String.format("%-40s %6d %9s %9s %9s %9s %9s %9s%n", phases.request, phases.statusCode,
+                    millis(phases.dnsNanos), millis(phases.connectNanos), millis(phases.tlsNanos),
+                    millis(phases.writeNanos), millis(phases.firstByteNanos), millis(phases.bodyNanos)));
+        }
+        list.clear();
+        return report.toString();
+    }
+
+    void recordDns(long nanos) {
+        dnsNanos = nanos;
+    }
+
+    void recordConnect(long nanos) {
+        connectNanos = nanos;
+    }
+
+    void recordTls(long nanos) {
+        tlsNanos = nanos;
+    }
+
+    void recordWrite(long nanos) {
+        writeNanos = nanos;
+    }
+
+    void recordFirstByte(long nanos) {
+        firstByteNanos = nanos;
+    }
+
+    void addBody(long nanos) {
+        bodyNanos += nanos;
+    }
+
+    public long getDnsNanos() {
+        return dnsNanos;
+    }
+
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    public long getTlsNanos() {
+        return tlsNanos;
+    }
+
+    public long getWriteNanos() {
+        return writeNanos;
+    }
+
+    public long getFirstByteNanos() {
+        return firstByteNanos;
+    }
+
+    public long getBodyNanos() {
+        return bodyNanos;
+    }
+
+    /**
+     * Whether the request went over a pooled connection instead of a new one.
+     */
+    public boolean isConnectionReused() {
+        return connectNanos == NOT_MEASURED;
+    }
+
+    public String describe() {
+        return String.format("dns=%s, connect=%s, tls=%s, write=%s, ttfb=%s, body=%s (ms)",
+                millis(dnsNanos), millis(connectNanos), millis(tlsNanos),
+                millis(writeNanos), millis(firstByteNanos), millis(bodyNanos));
+    }
+
+    private static String millis(long nanos) {
+        return nanos == NOT_MEASURED ? "-" : String.format("%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,27 @@
+package com.apiautomation.framework.http;
+
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sets the time reported by {@link Response#getTime()} on responses the framework builds itself
+ * (async results, cache hits), where RestAssured's own timing filter never ran.
+ */
+final class ResponseTimes {
+
+    private ResponseTimes() {
+    }
+
+    static Response withTime(Response response, long elapsedMillis) {
+        if (response instanceof RestAssuredResponseImpl) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put(TimingFilter.RESPONSE_TIME_MILLISECONDS, elapsedMillis);
+            ((RestAssuredResponseImpl) response).setFilterContextProperties(properties);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,198 @@
+package com.apiautomation.framework.http;
+
+import com.apiautomation.framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * When and how often requests are retried, plus the suite-wide retry budget and retry statistics.
+ *
+ * <p>A request is retried when its method is in {@code retry.methods} and it either got a status
+ * from {@code retry.status.codes} or failed with an I/O error ({@code retry.io.errors}), up to
+ * {@code retry.count} times. Waits between attempts use exponential backoff with decorrelated
+ * jitter between {@code retry.backoff.base.ms} and {@code retry.backoff.max.ms}. Every retry
+ * spends one token from {@code retry.budget}; once the budget is gone, requests get a single
+ * attempt, so a failing backend cannot stretch the suite's runtime.
+ *
+ * <p>First attempts and retries are timed separately, so retries do not skew first-attempt latency.
+ */
+public final class RetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+
+    private static final RetryPolicy SHARED = new RetryPolicy(
+            ConfigManager.getRetryCount(),
+            parseInts(ConfigManager.getProperty("retry.status.codes", "429,502,503,504")),
+            ConfigManager.getBooleanProperty("retry.io.errors", true),
+            parseMethods(ConfigManager.getProperty("retry.methods", "GET,HEAD,OPTIONS,PUT,DELETE")),
+            ConfigManager.getLongProperty("retry.backoff.base.ms", 100),
+            ConfigManager.getLongProperty("retry.backoff.max.ms", 2000),
+            ConfigManager.getIntProperty("retry.budget", 50));
+
+    private final int maxRetries;
+    private final Set<Integer> statusCodes;
+    private final boolean retryIoErrors;
+    private final Set<String> methods;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final int budget;
+
+    private final AtomicInteger budgetLeft;
+    private final AtomicBoolean budgetExhaustedLogged = new AtomicBoolean();
+    private final LongAdder firstAttempts = new LongAdder();
+    private final LongAdder firstAttemptNanos = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retryNanos = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder deniedByBudget = new LongAdder();
+
+    public RetryPolicy(int maxRetries, Set<Integer> statusCodes, boolean retryIoErrors, Set<String> methods,
+                       long baseDelayMillis, long maxDelayMillis, int budget) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.statusCodes = Collections.unmodifiableSet(statusCodes);
+        this.retryIoErrors = retryIoErrors;
+        this.methods = Collections.unmodifiableSet(methods);
+        this.baseDelayMillis = Math.max(1, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+        this.budget = Math.max(0, budget);
+        this.budgetLeft = new AtomicInteger(this.budget);
+    }
+
+    /**
+     * Suite-wide policy built from {@code retry.*}.
+     */
+    public static RetryPolicy shared() {
+        return SHARED;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public boolean isRetryableMethod(String method) {
+        return methods.contains(method.toUpperCase(Locale.ROOT));
+    }
+
+    public boolean isRetryableStatus(int statusCode) {
+        return statusCodes.contains(statusCode);
+    }
+
+    public boolean isRetryingIoErrors() {
+        return retryIoErrors;
+    }
+
+    public long getBaseDelayMillis() {
+        return baseDelayMillis;
+    }
+
+    /**
+     * Decorrelated jitter: a random wait between the base delay and three times the previous wait,
+     * capped at the maximum. Start with the base delay as {@code previousDelayMillis}.
+     */
+    public long nextDelayMillis(long previousDelayMillis) {
+        long upper = Math.max(baseDelayMillis + 1, Math.min(maxDelayMillis, previousDelayMillis * 3) + 1);
+        return Math.min(maxDelayMillis, ThreadLocalRandom.current().nextLong(baseDelayMillis, upper));
+    }
+
+    /**
+     * Takes one retry from the suite budget; {@code false} once it is used up.
+     */
+    public boolean tryAcquireRetry() {
+        int left;
+        do {
+            left = budgetLeft.get();
+            if (left <= 0) {
+                deniedByBudget.increment();
+                if (budgetExhaustedLogged.compareAndSet(false, true)) {
+                    logger.warn("⚠️ Retry budget of {} exhausted, further failures will not be retried", budget);
+                }
+                return false;
+            }
+        } while (!budgetLeft.compareAndSet(left, left - 1));
+        return true;
+    }
+
+    public void recordAttempt(int attempt, long nanos) {
+        if (attempt == 0) {
+            firstAttempts.increment();
+            firstAttemptNanos.add(nanos);
+        } else {
+            retries.increment();
+            retryNanos.add(nanos);
+        }
+    }
+
+    /**
+     * Records how a request that was retried at least once ended.
+     */
+    public void recordOutcome(boolean succeeded) {
+        if (succeeded) {
+            recovered.increment();
+        } else {
+            exhausted.increment();
+        }
+    }
+
+    public long getFirstAttemptCount() {
+        return firstAttempts.sum();
+    }
+
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    public long getRecoveredCount() {
+        return recovered.sum();
+    }
+
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    public long getDeniedByBudgetCount() {
+        return deniedByBudget.sum();
+    }
+
+    public int getBudgetLeft() {
+        return Math.max(0, budgetLeft.get());
+    }
+
+    public String describeStats() {
+        return String.format("first attempts=%d (avg %.1fms), retries=%d (avg %.1fms), recovered=%d, gave up=%d, " +
+                        "budget left=%d/%d, denied by budget=%d",
+                getFirstAttemptCount(), averageMillis(firstAttemptNanos, firstAttempts),
+                getRetryCount(), averageMillis(retryNanos, retries),
+                getRecoveredCount(), getExhaustedCount(), getBudgetLeft(), budget, getDeniedByBudgetCount());
+    }
+
+    private static double averageMillis(LongAdder nanos, LongAdder count) {
+        long n = count.sum();
+        return n == 0 ? 0 : nanos.sum() / 1_000_000.0 / n;
+    }
+
+    private static Set<Integer> parseInts(String csv) {
+        return Arrays.stream(csv.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(Integer::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> parseMethods(String csv) {
+        return Arrays.stream(csv.split(","))
+                .map(value -> value.trim().toUpperCase(Locale.ROOT))
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,138 @@
+package com.apiautomation.framework.http;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.UnknownHostException;
+
+/**
+ * HttpClient that retries requests according to a {@link RetryPolicy}.
+ *
+ * <p>Retrying below RestAssured means every attempt reuses the pooled connections and the original
+ * request, while RestAssured filters and assertions see a single, final response. HttpClient's own
+ * silent I/O retries are switched off so the policy is the only source of retries. Each retry
+ * waits for a permit from the {@link RateLimiter} that admitted the request (see
+ * {@link RateLimitFilter}), so retries count against {@code max.throughput} like any other request.
+ * Attempt boundaries are reported to {@link RequestAttempts} so filters can time attempts apart.
+ */
+@SuppressWarnings("deprecation")
+public class RetryingHttpClient extends DefaultHttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryingHttpClient.class);
+
+    private final RetryPolicy policy;
+
+    public RetryingHttpClient(ClientConnectionManager connectionManager, RetryPolicy policy) {
+        super(connectionManager);
+        this.policy = policy;
+        setHttpRequestRetryHandler(new DefaultHttpRequestRetryHandler(0, false));
+    }
+
+    @Override
+    protected HttpRequestExecutor createRequestExecutor() {
+        return new PhaseTiming.TimedRequestExecutor();
+    }
+
+    /**
+     * The overload RestAssured uses to send every request.
+     */
+    @Override
+    public CloseableHttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
+        boolean retryable = policy.getMaxRetries() > 0 && policy.isRetryableMethod(request.getMethod()) && isRepeatable(request);
+        long delay = policy.getBaseDelayMillis();
+        for (int attempt = 0; ; attempt++) {
+            RequestPhases phases = RequestPhases.begin(request.getMethod(), request.getURI());
+            long start = System.nanoTime();
+            RequestAttempts.attemptStarted(start);
+            CloseableHttpResponse response;
+            try {
+                response = super.execute(request, context);
+            } catch (IOException e) {
+                long end = System.nanoTime();
+                policy.recordAttempt(attempt, end - start);
+                if (retryable && policy.isRetryingIoErrors() && isTransient(e)
+                        && attempt < policy.getMaxRetries() && policy.tryAcquireRetry()) {
+                    RequestAttempts.attemptRetried(end);
+                    delay = policy.nextDelayMillis(delay);
+                    logger.warn("🔁 {} {} failed ({}), retry {} in {}ms",
+                            request.getMethod(), request.getURI(), e.toString(), attempt + 1, delay);
+                    pause(delay);
+                    acquirePermit(request);
+                    continue;
+                }
+                if (attempt > 0) {
+                    policy.recordOutcome(false);
+                }
+                throw e;
+            }
+            long end = System.nanoTime();
+            policy.recordAttempt(attempt, end - start);
+
+            int status = response.getStatusLine().getStatusCode();
+            boolean retryableStatus = policy.isRetryableStatus(status);
+            if (retryable && retryableStatus && attempt < policy.getMaxRetries() && policy.tryAcquireRetry()) {
+                EntityUtils.consumeQuietly(response.getEntity());
+                response.close();
+                RequestAttempts.attemptRetried(end);
+                delay = policy.nextDelayMillis(delay);
+                logger.warn("🔁 {} {} returned {}, retry {} in {}ms",
+                        request.getMethod(), request.getURI(), status, attempt + 1, delay);
+                pause(delay);
+                acquirePermit(request);
+                continue;
+            }
+            if (attempt > 0) {
+                policy.recordOutcome(!retryableStatus);
+            }
+            if (response.getEntity() != null) {
+                response.setEntity(PhaseTiming.timedEntity(response.getEntity(), phases));
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Unknown hosts and TLS failures will not go away on a retry.
+     */
+    private static boolean isTransient(IOException e) {
+        return !(e instanceof UnknownHostException) && !(e instanceof SSLException);
+    }
+
+    private static void acquirePermit(HttpUriRequest request) {
+        RateLimiter limiter = RateLimitFilter.activeLimiter();
+        if (limiter != null) {
+            limiter.acquire(request.getMethod(), request.getURI().toString());
+        }
+    }
+
+    private static boolean isRepeatable(HttpUriRequest request) {
+        if (request instanceof HttpEntityEnclosingRequest) {
+            HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+            return entity == null || entity.isRepeatable();
+        }
+        return true;
+    }
+
+    private static void pause(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.apiautomation.framework.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free token bucket holding up to {@code burst} permits and refilling at a fixed rate.
+ *
+ * <p>Implemented as a virtual-scheduling (GCRA) limiter: a single {@link AtomicLong} holds the
+ * theoretical arrival time of the next request, and each caller reserves its slot with one
+ * compare-and-set, so no thread ever blocks another while deciding how long to wait.
+ */
+public final class TokenBucket {
+
+    private final double permitsPerSecond;
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong nextFreeNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstToleranceNanos = intervalNanos * (Math.max(1, burst) - 1);
+        this.nextFreeNanos = new AtomicLong(System.nanoTime());
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Reserves one permit and returns how long the caller must wait before using it (0 if none).
+     */
+    public long reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextFreeNanos.get();
+            long allowedAt = Math.max(now, next - burstToleranceNanos);
+            long updated = Math.max(next, now) + intervalNanos;
+            if (nextFreeNanos.compareAndSet(next, updated)) {
+                return allowedAt - now;
+            }
+        }
+    }
+
+    /**
+     * Takes one permit, parking the calling thread until it is available. Returns the nanos waited.
+     */
+    public long acquire() {
+        long wait = reserve();
+        if (wait > 0) {
+            long deadline = System.nanoTime() + wait;
+            long remaining = wait;
+            while (remaining > 0) {
+                LockSupport.parkNanos(remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        }
+        return wait;
+    }
+}
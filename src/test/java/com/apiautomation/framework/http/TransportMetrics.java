@@ -0,0 +1,61 @@
+package com.apiautomation.framework.http;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts requests per negotiated protocol ({@code HTTP/1.1}, {@code HTTP/2}) and their total time,
+ * so a run shows whether the configured transport was actually used.
+ */
+public final class TransportMetrics {
+
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private TransportMetrics() {
+    }
+
+    private static final class Counter {
+        final LongAdder requests = new LongAdder();
+        final LongAdder millis = new LongAdder();
+    }
+
+    public static void record(String protocol, long elapsedMillis) {
+        Counter counter = counters.computeIfAbsent(protocol, key -> new Counter());
+        counter.requests.increment();
+        counter.millis.add(elapsedMillis);
+    }
+
+    public static long getRequestCount(String protocol) {
+        Counter counter = counters.get(protocol);
+        return counter == null ? 0 : counter.requests.sum();
+    }
+
+    /**
+     * Request counts keyed by protocol.
+     */
+    public static Map<String, Long> getRequestCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((protocol, counter) -> counts.put(protocol, counter.requests.sum()));
+        return counts;
+    }
+
+    public static String describe() {
+        if (counters.isEmpty()) {
+            return "no requests";
+        }
+        StringBuilder description = new StringBuilder();
+        new TreeMap<>(counters).forEach((protocol, counter) -> {
+            long requests = counter.requests.sum();
+            description.append(description.length() > 0 ? ", " : "")
+                    .append(String.format("%s=%d (avg %dms)", protocol, requests,
+                            requests == 0 ? 0 : counter.millis.sum() / requests));
+        });
+        return description.toString();
+    }
+
+    public static void reset() {
+        counters.clear();
+    }
+}
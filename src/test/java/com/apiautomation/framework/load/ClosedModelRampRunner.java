@@ -0,0 +1,199 @@
+package com.apiautomation.framework.load;
+
+import com.apiautomation.framework.config.ConfigManager;
+import com.apiautomation.framework.http.ConnectionPoolManager;
+import com.apiautomation.framework.http.RequestContext;
+import com.apiautomation.framework.utils.TestExecutors;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-model concurrency ramp: a fixed number of virtual users each run scenarios back to back,
+ * with no think time, for one step; the next step doubles the users (1, 2, 4, ... up to
+ * {@code maxUsers}). Throughput and latency are recorded per step, and the {@link RampReport}
+ * names the knee: the concurrency beyond which throughput levels off while latency climbs, i.e.
+ * where extra users only queue.
+ *
+ * <p>Users run on worker threads bound to a request context for {@code baseUrl} without the
+ * suite's filters, as in {@link OpenModelLoadRunner}. The context has a connection pool of its own
+ * with a connection per user, so the knee is the target's and not {@code http.pool.max.per.route}.
+ * When the target can only serve a known number of requests at once, e.g. a local stub with a
+ * fixed thread pool, {@link #withServerThreads(int)} caps the ramp there. Scenarios are warmed up
+ * once before the first step, and each user starts at a different scenario so that a step mixes
+ * all of them.
+ *
+ * <p>Configured by {@code load.ramp.base.url} (default {@code base.url}), {@code load.ramp.factor}
+ * (the ramp goes up to {@code test.parallel.threads} times this many users),
+ * {@code load.ramp.step.seconds}, {@code load.ramp.min.throughput.gain} and
+ * {@code load.ramp.min.latency.rise} (percent changes from one step to the next).
+ */
+public class ClosedModelRampRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClosedModelRampRunner.class);
+
+    private final String baseUrl;
+    private final List<LoadScenario> scenarios;
+    private final int maxUsers;
+    private final Duration stepDuration;
+    private final double minThroughputGainPercent;
+    private final double minLatencyRisePercent;
+    private int serverThreads;
+
+    public ClosedModelRampRunner(String baseUrl, List<LoadScenario> scenarios, int maxUsers, Duration stepDuration,
+                                 double minThroughputGainPercent, double minLatencyRisePercent) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario is required");
+        }
+        this.baseUrl = baseUrl;
+        this.scenarios = new ArrayList<>(scenarios);
+        this.maxUsers = Math.max(1, maxUsers);
+        this.stepDuration = stepDuration;
+        this.minThroughputGainPercent = minThroughputGainPercent;
+        this.minLatencyRisePercent = minLatencyRisePercent;
+    }
+
+    /**
+     * Runner for {@code load.ramp.base.url} using the {@code load.ramp.*} settings.
+     */
+    public static ClosedModelRampRunner fromConfig(List<LoadScenario> scenarios) {
+        return fromConfig(getConfiguredBaseUrl(), scenarios);
+    }
+
+    /**
+     * Ramp target: {@code load.ramp.base.url}, or {@code base.url} when it is not set.
+     */
+    public static String getConfiguredBaseUrl() {
+        String baseUrl = ConfigManager.getProperty("load.ramp.base.url", "").trim();
+        return baseUrl.isEmpty() ? ConfigManager.getBaseUrl() : baseUrl;
+    }
+
+    /**
+     * Runner for {@code baseUrl} using the {@code load.ramp.*} settings.
+     */
+    public static ClosedModelRampRunner fromConfig(String baseUrl, List<LoadScenario> scenarios) {
+        return new ClosedModelRampRunner(baseUrl, scenarios,
+                TestExecutors.getPlatformThreads() * Math.max(1, ConfigManager.getIntProperty("load.ramp.factor", 8)),
+                Duration.ofSeconds(ConfigManager.getLongProperty("load.ramp.step.seconds", 5)),
+                ConfigManager.getIntProperty("load.ramp.min.throughput.gain", 10),
+                ConfigManager.getIntProperty("load.ramp.min.latency.rise", 20));
+    }
+
+    /**
+     * Caps the ramp at {@code threads} users, the number of requests the target serves at once;
+     * beyond it a knee would only show the target's thread pool. {@code 0} means unknown.
+     */
+    public ClosedModelRampRunner withServerThreads(int threads) {
+        this.serverThreads = Math.max(0, threads);
+        return this;
+    }
+
+    /**
+     * User counts of the steps: powers of two up to {@code maxUsers}, which is always the last step.
+     */
+    public List<Integer> getSteps() {
+        int lastStep = serverThreads > 0 ? Math.min(maxUsers, serverThreads) : maxUsers;
+        List<Integer> steps = new ArrayList<>();
+        for (int users = 1; users < lastStep; users *= 2) {
+            steps.add(users);
+        }
+        steps.add(lastStep);
+        return steps;
+    }
+
+    /**
+     * Runs every step in turn and finds the knee.
+     */
+    public RampReport run() {
+        logger.info("📈 Closed-model ramp: {} users, {}s per step against {} ({} scenarios)",
+                getSteps(), stepDuration.getSeconds(), baseUrl, scenarios.size());
+        if (serverThreads > 0 && maxUsers > serverThreads) {
+            logger.warn("⚠️ Ramp capped at {} users instead of {}: the target only serves {} requests at once",
+                    serverThreads, maxUsers, serverThreads);
+        }
+        OpenModelLoadRunner.warmUp(baseUrl, scenarios);
+        List<Integer> userCounts = getSteps();
+        List<RampReport.Step> steps = new ArrayList<>();
+        try (ConnectionPoolManager.DedicatedPool pool =
+                     ConnectionPoolManager.dedicatedPool(userCounts.get(userCounts.size() - 1))) {
+            RequestContext context = RequestContext.withFilters(baseUrl, pool.restAssuredConfig());
+            for (int users : userCounts) {
+                RampReport.Step step = runStep(context, users);
+                logger.info("📊 {} users: {}/s, p99 {}ms", users,
+                        String.format("%.1f", step.getThroughput()), String.format("%.1f", step.getP99Millis()));
+                steps.add(step);
+            }
+        }
+        RampReport report = new RampReport(steps, minThroughputGainPercent, minLatencyRisePercent);
+        logger.info("🏁 {}", report);
+        return report;
+    }
+
+    private RampReport.Step runStep(RequestContext context, int users) {
+        Histogram latency = new ConcurrentHistogram(3);
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        ExecutorService executor = TestExecutors.newExecutor("ramp", users);
+        long start = System.nanoTime();
+        long end = start + stepDuration.toNanos();
+        AtomicLong lastCompletion = new AtomicLong(start);
+        try {
+            for (int user = 0; user < users; user++) {
+                int first = user;
+                executor.execute(() -> {
+                    RequestContext.open(context);
+                    try {
+                        for (int run = first; System.nanoTime() < end; run++) {
+                            LoadScenario scenario = scenarios.get(run % scenarios.size());
+                            long runStart = System.nanoTime();
+                            boolean succeeded = false;
+                            try {
+                                scenario.run();
+                                succeeded = true;
+                            } catch (Throwable e) {
+                                failed.increment();
+                            }
+                            long now = System.nanoTime();
+                            if (succeeded) {
+                                latency.recordValue(TimeUnit.NANOSECONDS.toMicros(now - runStart));
+                            }
+                            completed.increment();
+                            lastCompletion.accumulateAndGet(now, Math::max);
+                        }
+                    } finally {
+                        RequestContext.close();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            awaitTermination(executor, end);
+        }
+        return new RampReport.Step(users, lastCompletion.get() - start, completed.sum(), failed.sum(), latency);
+    }
+
+    /**
+     * Waits for the users to finish their last runs, at most twice the API timeout past the step end.
+     */
+    private static void awaitTermination(ExecutorService executor, long stepEndNanos) {
+        long timeoutNanos = stepEndNanos - System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ConfigManager.getApiTimeout() * 2L);
+        try {
+            if (!executor.awaitTermination(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                logger.warn("⚠️ Ramp users still running after the timeout, abandoning them");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.apiautomation.framework.load;
+
+import com.apiautomation.framework.http.LatencyRecorder;
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a load run: arrivals, completions, errors, throughput and latency percentiles per
+ * scenario (whole flow) and per endpoint (single request), each both raw (from the actual start)
+ * and corrected for coordinated omission (from the intended start).
+ */
+public final class LoadReport {
+
+    private final double targetRate;
+    private final long elapsedNanos;
+    private final long scheduled;
+    private final long completed;
+    private final long failed;
+    private final long dropped;
+    private final LatencyRecorder scenarioLatency;
+    private final LatencyRecorder correctedScenarioLatency;
+    private final LatencyRecorder requestLatency;
+    private final LatencyRecorder correctedRequestLatency;
+    private final Map<String, String> firstErrors;
+
+    LoadReport(double targetRate, long elapsedNanos, long scheduled, long completed, long failed, long dropped,
+               LatencyRecorder scenarioLatency, LatencyRecorder correctedScenarioLatency,
+               LatencyRecorder requestLatency, LatencyRecorder correctedRequestLatency, Map<String, String> firstErrors) {
+        this.targetRate = targetRate;
+        this.elapsedNanos = elapsedNanos;
+        this.scheduled = scheduled;
+        this.completed = completed;
+        this.failed = failed;
+        this.dropped = dropped;
+        this.scenarioLatency = scenarioLatency;
+        this.correctedScenarioLatency = correctedScenarioLatency;
+        this.requestLatency = requestLatency;
+        this.correctedRequestLatency = correctedRequestLatency;
+        this.firstErrors = Collections.unmodifiableMap(new TreeMap<>(firstErrors));
+    }
+
+    /**
+     * Scenario runs that were due to start.
+     */
+    public long getScheduledCount() {
+        return scheduled;
+    }
+
+    public long getCompletedCount() {
+        return completed;
+    }
+
+    public long getFailedCount() {
+        return failed;
+    }
+
+    /**
+     * Arrivals that never started because the run timed out while they were still queued.
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * Completed scenario runs per second, failed ones included.
+     */
+    public double getThroughput() {
+        return elapsedNanos <= 0 ? 0 : completed * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Failed and dropped runs as a percentage of scheduled ones.
+     */
+    public double getErrorRatePercent() {
+        return scheduled == 0 ? 0 : (failed + dropped) * 100.0 / scheduled;
+    }
+
+    /**
+     * Latency of whole scenario runs (microseconds) for {@code scenario} from their actual start,
+     * or {@code null}.
+     */
+    public Histogram getScenarioHistogram(String scenario) {
+        return scenarioLatency.getHistogram(scenario);
+    }
+
+    /**
+     * Latency of whole scenario runs (microseconds) from their intended start, or {@code null}.
+     */
+    public Histogram getCorrectedScenarioHistogram(String scenario) {
+        return correctedScenarioLatency.getHistogram(scenario);
+    }
+
+    /**
+     * Per-request latencies keyed by endpoint, from the actual start.
+     */
+    public LatencyRecorder getRequestLatency() {
+        return requestLatency;
+    }
+
+    /**
+     * Per-request latencies keyed by endpoint, the first request of each run timed from its
+     * intended start.
+     */
+    public LatencyRecorder getCorrectedRequestLatency() {
+        return correctedRequestLatency;
+    }
+
+    /**
+     * First failure message per scenario.
+     */
+    public Map<String, String> getFirstErrors() {
+        return firstErrors;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format(
+                "Load: target %.1f/s, %d scheduled, %d completed in %.1fs -> %.1f/s, %d failed, %d dropped, error rate %.2f%%%n",
+                targetRate, scheduled, completed, elapsedNanos / 1e9, getThroughput(), failed, dropped, getErrorRatePercent()));
+        report.append('\n').append(scenarioLatency.report("Scenario (ms, raw)"));
+        report.append('\n').append(correctedScenarioLatency.report("Scenario (ms, corrected)"));
+        report.append('\n').append(requestLatency.report("Request (ms, raw)"));
+        report.append('\n').append(correctedRequestLatency.report("Request (ms, corrected)"));
+        if (!firstErrors.isEmpty()) {
+            report.append("\nFirst errors:\n");
+            firstErrors.forEach((scenario, error) -> report.append(String.format("  %s: %s%n", scenario, error)));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.apiautomation.framework.load;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One named user flow replayed by a load runner, e.g. a {@code WorkingAPITest} test method.
+ * A flow fails by throwing, including TestNG assertion errors.
+ */
+public final class LoadScenario {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Throwable;
+    }
+
+    private final String name;
+    private final Action action;
+
+    private LoadScenario(String name, Action action) {
+        this.name = name;
+        this.action = action;
+    }
+
+    public static LoadScenario of(String name, Action action) {
+        return new LoadScenario(name, action);
+    }
+
+    /**
+     * Wraps test methods of {@code testClass} as scenarios, all invoked on one instance the way
+     * TestNG runs them with {@code parallel="methods"}. Requests made through {@code BaseTest.given()}
+     * go to whatever request context the load runner binds to the calling thread.
+     */
+    public static List<LoadScenario> fromTestMethods(Class<?> testClass, String... methodNames) {
+        Object instance;
+        try {
+            instance = testClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Cannot instantiate " + testClass.getName() + ": " + e.getMessage(), e);
+        }
+        List<LoadScenario> scenarios = new ArrayList<>();
+        for (String methodName : methodNames) {
+            Method method;
+            try {
+                method = testClass.getMethod(methodName);
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException("No public no-arg method " + methodName + " in " + testClass.getName(), e);
+            }
+            scenarios.add(of(methodName, () -> {
+                try {
+                    method.invoke(instance);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }));
+        }
+        return scenarios;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void run() throws Throwable {
+        action.run();
+    }
+}
@@ -0,0 +1,198 @@
+package com.apiautomation.framework.load;
+
+import com.apiautomation.framework.config.ConfigManager;
+import com.apiautomation.framework.http.IntendedStart;
+import com.apiautomation.framework.http.LatencyRecorder;
+import com.apiautomation.framework.http.LatencyRecordingFilter;
+import com.apiautomation.framework.http.RequestContext;
+import com.apiautomation.framework.utils.TestExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: starts scenario runs at a fixed arrival rate for a fixed duration,
+ * whether or not earlier runs have finished, the way independent users arrive at a service.
+ *
+ * <p>Scenarios are started in turn (round robin) on worker threads that have a request context
+ * for {@code baseUrl} bound, so test methods using {@code BaseTest.given()} send their requests
+ * there. That context skips the suite's rate limiter, circuit breaker and latency recorder: the
+ * runner paces itself and records latencies into the {@link LoadReport} only. At most
+ * {@code maxInFlight} runs execute at once; later arrivals queue until a run finishes. Each
+ * scenario is run once before the measurement starts, to warm up the JVM and the connection pool.
+ *
+ * <p>Every arrival has an intended start time on the fixed schedule. Latencies are recorded twice:
+ * raw, from when a run actually started, and corrected for coordinated omission, from its intended
+ * start (see {@link IntendedStart}). When the runner or the system falls behind, the corrected
+ * distribution includes the time arrivals spent waiting, as users would have experienced it.
+ *
+ * <p>Configured by {@code load.rate} (arrivals per second), {@code load.duration.seconds} and
+ * {@code load.max.in.flight}.
+ */
+public class OpenModelLoadRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenModelLoadRunner.class);
+
+    private final String baseUrl;
+    private final List<LoadScenario> scenarios;
+    private final double arrivalsPerSecond;
+    private final Duration duration;
+    private final int maxInFlight;
+
+    public OpenModelLoadRunner(String baseUrl, List<LoadScenario> scenarios, double arrivalsPerSecond,
+                               Duration duration, int maxInFlight) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario is required");
+        }
+        if (arrivalsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive: " + arrivalsPerSecond);
+        }
+        this.baseUrl = baseUrl;
+        this.scenarios = new ArrayList<>(scenarios);
+        this.arrivalsPerSecond = arrivalsPerSecond;
+        this.duration = duration;
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    /**
+     * Runner for {@code baseUrl} using the {@code load.*} settings.
+     */
+    public static OpenModelLoadRunner fromConfig(String baseUrl, List<LoadScenario> scenarios) {
+        return new OpenModelLoadRunner(baseUrl, scenarios,
+                Double.parseDouble(ConfigManager.getProperty("load.rate", "50").trim()),
+                Duration.ofSeconds(ConfigManager.getLongProperty("load.duration.seconds", 10)),
+                ConfigManager.getIntProperty("load.max.in.flight", 200));
+    }
+
+    /**
+     * Runs the load and waits for all started runs to finish.
+     */
+    public LoadReport run() {
+        LatencyRecorder scenarioLatency = new LatencyRecorder();
+        LatencyRecorder correctedScenarioLatency = new LatencyRecorder();
+        LatencyRecorder requestLatency = new LatencyRecorder();
+        LatencyRecorder correctedRequestLatency = new LatencyRecorder();
+        RequestContext context = RequestContext.withFilters(baseUrl,
+                new LatencyRecordingFilter(requestLatency, correctedRequestLatency));
+        Map<String, String> firstErrors = new ConcurrentHashMap<>();
+        Semaphore slots = new Semaphore(maxInFlight);
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        LongAdder dropped = new LongAdder();
+        long scheduled = 0;
+
+        logger.info("🏋️ Open-model load: {}/s for {}s against {} ({} scenarios, max {} in flight)",
+                arrivalsPerSecond, duration.getSeconds(), baseUrl, scenarios.size(), maxInFlight);
+        warmUp(baseUrl, scenarios);
+        ExecutorService executor = TestExecutors.newExecutor("load", maxInFlight);
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / arrivalsPerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        AtomicLong lastCompletion = new AtomicLong(start);
+        try {
+            for (long arrival = 0; ; arrival++) {
+                long intendedStart = start + (long) (arrival * intervalNanos);
+                if (intendedStart >= end) {
+                    break;
+                }
+                parkUntil(intendedStart);
+                scheduled++;
+                LoadScenario scenario = scenarios.get((int) (arrival % scenarios.size()));
+                executor.execute(() -> {
+                    try {
+                        slots.acquire();
+                    } catch (InterruptedException e) {
+                        dropped.increment();
+                        return;
+                    }
+                    RequestContext.open(context);
+                    IntendedStart.set(intendedStart);
+                    long runStart = System.nanoTime();
+                    try {
+                        scenario.run();
+                    } catch (Throwable e) {
+                        failed.increment();
+                        firstErrors.putIfAbsent(scenario.getName(), String.valueOf(e));
+                    } finally {
+                        long now = System.nanoTime();
+                        scenarioLatency.record(scenario.getName(), now - runStart);
+                        correctedScenarioLatency.record(scenario.getName(), now - intendedStart);
+                        completed.increment();
+                        lastCompletion.accumulateAndGet(now, Math::max);
+                        IntendedStart.clear();
+                        RequestContext.close();
+                        slots.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            dropped.add(awaitTermination(executor));
+        }
+
+        LoadReport report = new LoadReport(arrivalsPerSecond, lastCompletion.get() - start, scheduled,
+                completed.sum(), failed.sum(), dropped.sum(), scenarioLatency, correctedScenarioLatency,
+                requestLatency, correctedRequestLatency, firstErrors);
+        logger.info("🏁 {}", report);
+        return report;
+    }
+
+    /**
+     * Runs every scenario once, unrecorded, so class loading, JIT and connection setup do not
+     * land in the first second of the measurement. The runs happen on a worker thread, like the
+     * measured ones, so a context the caller has bound stays bound.
+     */
+    static void warmUp(String baseUrl, List<LoadScenario> scenarios) {
+        Callable<Void> warmUp = () -> {
+            RequestContext.open(RequestContext.withFilters(baseUrl));
+            try {
+                for (LoadScenario scenario : scenarios) {
+                    try {
+                        scenario.run();
+                    } catch (Throwable e) {
+                        logger.warn("⚠️ Warm-up run of {} failed: {}", scenario.getName(), e.toString());
+                    }
+                }
+            } finally {
+                RequestContext.close();
+            }
+            return null;
+        };
+        TestExecutors.invokeAll(List.of(warmUp));
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        for (long remaining = deadlineNanos - System.nanoTime(); remaining > 0;
+             remaining = deadlineNanos - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Waits for queued and running scenario runs; returns how many never started.
+     */
+    private static int awaitTermination(ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(ConfigManager.getApiTimeout() * 2L, TimeUnit.MILLISECONDS)) {
+                logger.warn("⚠️ Load runs still in progress after the timeout, abandoning them");
+                return executor.shutdownNow().size();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return executor.shutdownNow().size();
+        }
+        return 0;
+    }
+}
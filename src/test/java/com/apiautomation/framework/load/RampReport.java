@@ -0,0 +1,167 @@
+package com.apiautomation.framework.load;
+
+import com.apiautomation.framework.http.LatencyRecorder;
+import org.HdrHistogram.Histogram;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a concurrency ramp: throughput and scenario latency per step, and the knee.
+ *
+ * <p>The knee is the last step before the first one whose throughput gained less than
+ * {@code minThroughputGainPercent} over the previous step while its p99 rose by at least
+ * {@code minLatencyRisePercent} or its error rate rose: beyond it, more concurrent users add
+ * queueing or failures rather than throughput. If no step shows both, the knee was not reached
+ * within the ramp. Throughput and latency only count successful runs, so a backend that starts
+ * failing fast does not look like one that keeps scaling.
+ */
+public final class RampReport {
+
+    public static final int NOT_REACHED = -1;
+
+    private final List<Step> steps;
+    private final double minThroughputGainPercent;
+    private final double minLatencyRisePercent;
+    private final int kneeIndex;
+
+    RampReport(List<Step> steps, double minThroughputGainPercent, double minLatencyRisePercent) {
+        this.steps = Collections.unmodifiableList(steps);
+        this.minThroughputGainPercent = minThroughputGainPercent;
+        this.minLatencyRisePercent = minLatencyRisePercent;
+        this.kneeIndex = findKnee();
+    }
+
+    private int findKnee() {
+        for (int i = 1; i < steps.size(); i++) {
+            Step previous = steps.get(i - 1);
+            Step step = steps.get(i);
+            if (percentChange(previous.getThroughput(), step.getThroughput()) < minThroughputGainPercent
+                    && (percentChange(previous.getP99Millis(), step.getP99Millis()) >= minLatencyRisePercent
+                    || step.getErrorRatePercent() > previous.getErrorRatePercent())) {
+                return i - 1;
+            }
+        }
+        return NOT_REACHED;
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Users at the knee, or {@link #NOT_REACHED} if throughput kept scaling up to the last step.
+     */
+    public int getKneeUsers() {
+        return kneeIndex == NOT_REACHED ? NOT_REACHED : steps.get(kneeIndex).getUsers();
+    }
+
+    /**
+     * The step at the knee, or {@code null} if it was not reached.
+     */
+    public Step getKneeStep() {
+        return kneeIndex == NOT_REACHED ? null : steps.get(kneeIndex);
+    }
+
+    /**
+     * Failed runs as a percentage of all runs in the ramp.
+     */
+    public double getErrorRatePercent() {
+        long completed = steps.stream().mapToLong(Step::getCompletedCount).sum();
+        long failed = steps.stream().mapToLong(Step::getFailedCount).sum();
+        return completed == 0 ? 0 : failed * 100.0 / completed;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format("%6s %12s %9s %9s %9s %8s %11s %9s%n",
+                "Users", "Throughput/s", "p50 ms", "p99 ms", "Max ms", "Failed", "Throughput", "p99"));
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            String throughputChange = "-";
+            String latencyChange = "-";
+            if (i > 0) {
+                throughputChange = String.format("%+.0f%%", percentChange(steps.get(i - 1).getThroughput(), step.getThroughput()));
+                latencyChange = String.format("%+.0f%%", percentChange(steps.get(i - 1).getP99Millis(), step.getP99Millis()));
+            }
+            report.append(String.format("%6d %12.1f %9.1f %9.1f %9.1f %8d %11s %9s%s%n", step.users, step.getThroughput(),
+                    step.getPercentileMillis(50), step.getP99Millis(), LatencyRecorder.millis(step.latency.getMaxValue()),
+                    step.failed, throughputChange, latencyChange, i == kneeIndex ? "  <- knee" : ""));
+        }
+        Step knee = getKneeStep();
+        if (knee != null) {
+            report.append(String.format("Knee at %d users: %.1f/s, p99 %.1fms; more users gain under %.0f%% throughput "
+                            + "while p99 rises %.0f%% or more, or errors rise%n",
+                    knee.users, knee.getThroughput(), knee.getP99Millis(), minThroughputGainPercent, minLatencyRisePercent));
+        } else {
+            report.append(String.format("Knee not reached: throughput kept scaling up to %d users%n",
+                    steps.get(steps.size() - 1).users));
+        }
+        return report.toString();
+    }
+
+    private static double percentChange(double from, double to) {
+        return from <= 0 ? 0 : (to - from) * 100 / from;
+    }
+
+    /**
+     * One step of the ramp: a fixed number of users running scenarios back to back.
+     */
+    public static final class Step {
+        private final int users;
+        private final long elapsedNanos;
+        private final long completed;
+        private final long failed;
+        private final Histogram latency;
+
+        Step(int users, long elapsedNanos, long completed, long failed, Histogram latency) {
+            this.users = users;
+            this.elapsedNanos = elapsedNanos;
+            this.completed = completed;
+            this.failed = failed;
+            this.latency = latency;
+        }
+
+        public int getUsers() {
+            return users;
+        }
+
+        public long getCompletedCount() {
+            return completed;
+        }
+
+        public long getFailedCount() {
+            return failed;
+        }
+
+        /**
+         * Successful scenario runs per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos <= 0 ? 0 : (completed - failed) * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        /**
+         * Failed runs as a percentage of all runs in the step.
+         */
+        public double getErrorRatePercent() {
+            return completed == 0 ? 0 : failed * 100.0 / completed;
+        }
+
+        public double getPercentileMillis(double percentile) {
+            return latency.getTotalCount() == 0 ? 0 : LatencyRecorder.millis(latency.getValueAtPercentile(percentile));
+        }
+
+        public double getP99Millis() {
+            return getPercentileMillis(99);
+        }
+
+        /**
+         * Latencies of the step's successful scenario runs, in microseconds.
+         */
+        public Histogram getHistogram() {
+            return latency.copy();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.apiautomation.framework.stub;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP/2 variant of {@link StubApiServer}, serving the same canned resources over cleartext h2c.
+ *
+ * <p>HTTP/1.1 clients are answered too, and clients that offer {@code Upgrade: h2c} are switched to
+ * HTTP/2, so tests can check that the framework negotiates h2 and multiplexes requests over a
+ * single connection.
+ */
+public class Http2StubServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Http2StubServer.class);
+
+    private final Server server;
+    private final ServerConnector connector;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final Map<String, LongAdder> protocols = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private Http2StubServer() {
+        server = new Server();
+        HttpConfiguration config = new HttpConfiguration();
+        connector = new ServerConnector(server, new HttpConnectionFactory(config), new HTTP2CServerConnectionFactory(config));
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        server.addConnector(connector);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+                dispatch(baseRequest, request, response);
+            }
+        });
+    }
+
+    public static Http2StubServer start() throws IOException {
+        Http2StubServer stub = new Http2StubServer();
+        try {
+            stub.server.start();
+        } catch (Exception e) {
+            throw new IOException("Could not start HTTP/2 stub: " + e.getMessage(), e);
+        }
+        logger.info("🧪 HTTP/2 stub API listening on {}", stub.getBaseUrl());
+        return stub;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + connector.getLocalPort();
+    }
+
+    /**
+     * Number of distinct client ports seen, i.e. TCP connections opened by clients.
+     */
+    public int getConnectionCount() {
+        return clientPorts.size();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Requests served per protocol, e.g. {@code HTTP/2.0=100, HTTP/1.1=1}.
+     */
+    public Map<String, Long> getProtocolCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        protocols.forEach((protocol, count) -> counts.put(protocol, count.sum()));
+        return counts;
+    }
+
+    private void dispatch(Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        requestCount.incrementAndGet();
+        clientPorts.add(request.getRemotePort());
+        protocols.computeIfAbsent(request.getProtocol(), protocol -> new LongAdder()).increment();
+
+        String requestJson = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        StubApiServer.Reply reply = StubApiServer.route(request.getMethod().toUpperCase(), request.getRequestURI(), requestJson);
+
+        byte[] body = reply.json.getBytes(StandardCharsets.UTF_8);
+        response.setStatus(reply.status);
+        response.setContentType("application/json; charset=utf-8");
+        response.setContentLength(body.length);
+        try (OutputStream output = response.getOutputStream()) {
+            output.write(body);
+        }
+        baseRequest.setHandled(true);
+    }
+
+    @Override
+    public void close() {
+        try {
+            server.stop();
+        } catch (Exception e) {
+            logger.warn("⚠️ Error stopping HTTP/2 stub: {}", e.getMessage());
+        }
+    }
+}
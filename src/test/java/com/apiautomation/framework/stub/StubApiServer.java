@@ -0,0 +1,231 @@
+package com.apiautomation.framework.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * In-process stand-in for the JSONPlaceholder API, used to run framework tests offline.
+ *
+ * <p>Serves canned {@code /users} and {@code /posts} resources on a random local port and mirrors
+ * the create / update / delete behaviour of the real service, including {@code ETag} validators and
+ * {@code 304 Not Modified} answers for conditional GETs. Individual routes can be overridden
+ * to simulate slow or failing backends.
+ */
+public class StubApiServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubApiServer.class);
+    private static final int USER_COUNT = 10;
+    private static final int POST_COUNT = 100;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int threads;
+    private final Map<String, Route> overrides = new ConcurrentHashMap<>();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    /**
+     * Handles a request in place of the built-in routes.
+     */
+    @FunctionalInterface
+    public interface Route {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    private StubApiServer(int threads) throws IOException {
+        this.threads = threads;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stub-api");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::dispatch);
+    }
+
+    public static StubApiServer start() throws IOException {
+        return start(16);
+    }
+
+    public static StubApiServer start(int threads) throws IOException {
+        StubApiServer stub = new StubApiServer(threads);
+        stub.server.start();
+        logger.info("🧪 Stub API listening on {}", stub.getBaseUrl());
+        return stub;
+    }
+
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Number of requests the stub handles at once.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Replaces the handling of {@code METHOD /path} (exact path match) until cleared.
+     */
+    public void override(String method, String path, Route route) {
+        overrides.put(method.toUpperCase() + " " + path, route);
+    }
+
+    public void clearOverrides() {
+        overrides.clear();
+    }
+
+    /**
+     * Number of distinct client ports seen, i.e. TCP connections opened by clients.
+     */
+    public int getConnectionCount() {
+        return clientPorts.size();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            String method = exchange.getRequestMethod().toUpperCase();
+            String path = exchange.getRequestURI().getPath();
+            String requestJson = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8);
+
+            Route override = overrides.get(method + " " + path);
+            if (override != null) {
+                override.handle(exchange);
+                return;
+            }
+
+            Reply reply = route(method, path, requestJson);
+            if ("GET".equals(method) && reply.status == 200) {
+                String etag = "\"" + Integer.toHexString(reply.json.hashCode()) + "\"";
+                exchange.getResponseHeaders().set("ETag", etag);
+                if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    exchange.sendResponseHeaders(304, -1);
+                    exchange.close();
+                    return;
+                }
+            }
+            respond(exchange, reply.status, reply.json);
+        }
+    }
+
+    /**
+     * Status code and JSON body produced by the built-in routes.
+     */
+    static final class Reply {
+        final int status;
+        final String json;
+
+        Reply(int status, String json) {
+            this.status = status;
+            this.json = json;
+        }
+    }
+
+    /**
+     * Resolves a request against the built-in {@code /users} and {@code /posts} resources.
+     */
+    static Reply route(String method, String path, String requestJson) {
+        String[] segments = path.replaceAll("^/+|/+$", "").split("/");
+        String resource = segments[0];
+        Integer id = segments.length > 1 && segments[1].matches("\\d+") ? Integer.valueOf(segments[1]) : null;
+
+        if ("users".equals(resource) && "GET".equals(method)) {
+            return id == null ? new Reply(200, list(USER_COUNT, StubApiServer::user)) : item(id, USER_COUNT, user(id));
+        } else if ("posts".equals(resource)) {
+            return routePosts(method, id, requestJson);
+        }
+        return new Reply(404, "{}");
+    }
+
+    private static Reply routePosts(String method, Integer id, String requestJson) {
+        switch (method) {
+            case "GET":
+                return id == null ? new Reply(200, list(POST_COUNT, StubApiServer::post)) : item(id, POST_COUNT, post(id));
+            case "POST":
+                return new Reply(201, withId(requestJson, POST_COUNT + 1));
+            case "PUT":
+            case "PATCH":
+                return new Reply(id != null && id <= POST_COUNT ? 200 : 500, withId(requestJson, id == null ? 0 : id));
+            case "DELETE":
+                return new Reply(200, "{}");
+            default:
+                return new Reply(405, "{}");
+        }
+    }
+
+    private static Reply item(int id, int count, String json) {
+        return id >= 1 && id <= count ? new Reply(200, json) : new Reply(404, "{}");
+    }
+
+    /**
+     * Writes a JSON response with a fixed length so that the connection can be kept alive.
+     */
+    public static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static String list(int count, IntFunction<String> item) {
+        StringBuilder json = new StringBuilder("[");
+        for (int id = 1; id <= count; id++) {
+            json.append(id > 1 ? "," : "").append(item.apply(id));
+        }
+        return json.append(']').toString();
+    }
+
+    private static String user(int id) {
+        return String.format("{\"id\":%d,\"name\":\"User %d\",\"username\":\"user%d\",\"email\":\"user%d@example.com\"," +
+                "\"address\":{\"street\":\"Street %d\",\"suite\":\"Apt. %d\",\"city\":\"City\",\"zipcode\":\"0000%d\"," +
+                "\"geo\":{\"lat\":\"-37.3159\",\"lng\":\"81.1496\"}},\"phone\":\"1-770-736-80%02d\"," +
+                "\"website\":\"user%d.example.com\",\"company\":{\"name\":\"Company %d\",\"catchPhrase\":\"Phrase\",\"bs\":\"bs\"}}",
+                id, id, id, id, id, id, id, id, id, id);
+    }
+
+    private static String post(int id) {
+        return String.format("{\"userId\":%d,\"id\":%d,\"title\":\"Post title %d\",\"body\":\"Post body %d\"}",
+                (id - 1) / 10 + 1, id, id, id);
+    }
+
+    private static String withId(String requestJson, int id) {
+        String trimmed = requestJson.trim();
+        if (!trimmed.startsWith("{") || trimmed.contains("\"id\"")) {
+            return trimmed.isEmpty() ? "{}" : trimmed;
+        }
+        String members = trimmed.substring(1, trimmed.length() - 1).trim();
+        return "{" + members + (members.isEmpty() ? "" : ",") + "\"id\":" + id + "}";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
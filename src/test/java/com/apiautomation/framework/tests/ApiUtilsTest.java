@@ -0,0 +1,289 @@
+package com.apiautomation.framework.tests;
+
+import com.apiautomation.framework.utils.ApiUtils;
+import com.apiautomation.framework.utils.ByteMatcher;
+import com.apiautomation.framework.utils.JsonExpectations;
+import com.apiautomation.framework.utils.JsonPathCache;
+import com.apiautomation.framework.utils.MultiLiteralMatcher;
+import com.apiautomation.framework.utils.ResponseBodies;
+import com.apiautomation.framework.utils.ResponseDocumentCache;
+import com.apiautomation.framework.utils.SchemaRegistry;
+import com.apiautomation.framework.utils.StreamingJsonPath;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.qameta.allure.*;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+@Epic("API Testing Framework")
+@Feature("Assertion Utilities")
+public class ApiUtilsTest {
+
+    private static final String USER_JSON = "{\"id\":1,\"name\":\"Leanne Graham\",\"email\":\"Sincere@april.biz\"," +
+            "\"address\":{\"city\":\"Gwenborough\",\"geo\":{\"lat\":\"-37.3159\",\"lng\":\"81.1496\"}}," +
+            "\"tags\":[\"a\",\"b\",\"c\"]}";
+
+    static Response jsonResponse(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json; charset=UTF-8")
+                .setBody(body.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    @Test
+    @Story("Parsed Document Cache")
+    @Description("Repeated assertions on one response share a single parsed document")
+    public void testDocumentIsParsedOnce() {
+        Response response = jsonResponse(USER_JSON);
+
+        assertSame(ResponseDocumentCache.get(response), ResponseDocumentCache.get(response),
+                "Document should be cached per response");
+
+        ApiUtils.verifyJsonFieldExists(response, "$.address.geo.lat", "lat");
+        ApiUtils.verifyJsonFieldValue(response, "$.name", "Leanne Graham", "name");
+        ApiUtils.verifyJsonArraySize(response, "$.tags", 3, "tags");
+        assertEquals(ApiUtils.extractJsonValue(response, "$.id", Integer.class), Integer.valueOf(1));
+    }
+
+    @Test
+    @Story("Compiled Path Cache")
+    @Description("Repeated expressions are compiled once and served from the path cache")
+    public void testCompiledPathsAreReused() {
+        long missesBefore = JsonPathCache.getMissCount();
+        long hitsBefore = JsonPathCache.getHitCount();
+
+        assertSame(JsonPathCache.compile("$.address.city"), JsonPathCache.compile("$.address.city"),
+                "Same expression should return the same compiled path");
+        assertTrue(JsonPathCache.getMissCount() - missesBefore <= 1, "Expression should compile at most once");
+        assertTrue(JsonPathCache.getHitCount() > hitsBefore, "Second lookup should be a hit");
+        assertTrue(JsonPathCache.size() <= JsonPathCache.getMaxSize(), "Cache should stay within its bound");
+    }
+
+    @Test
+    @Story("Compiled Path Cache")
+    @Description("A path compiled into a full cache survives the sweep it triggered")
+    public void testNewPathsSurviveEviction() {
+        for (int i = 0; i <= JsonPathCache.getMaxSize(); i++) {
+            JsonPathCache.compile("$.oneOff[" + i + "]");
+        }
+        String fresh = "$.fresh" + System.nanoTime();
+
+        assertSame(JsonPathCache.compile(fresh), JsonPathCache.compile(fresh),
+                "A newly compiled path should not be the first one evicted");
+        assertTrue(JsonPathCache.getEvictionCount() > 0, "The cache should have swept");
+        assertTrue(JsonPathCache.size() <= JsonPathCache.getMaxSize(), "Cache should stay within its bound");
+    }
+
+    @Test
+    @Story("Streaming Field Checks")
+    @Description("Required fields are matched as object keys in one pass, not as substrings")
+    public void testFieldsAreMatchedAsKeys() {
+        Response list = jsonResponse("[{\"id\":1,\"title\":\"email me\"},{\"id\":2,\"title\":\"x\",\"address\":{\"city\":\"y\"}}]");
+
+        ApiUtils.verifyJsonFieldsPresent(list, 0, "id", "title");
+        ApiUtils.verifyJsonStructure(list, "city", "address.city");
+        assertThrows(AssertionError.class, () -> ApiUtils.verifyJsonStructure(list, "email"));
+        assertThrows(AssertionError.class, () -> ApiUtils.verifyJsonFieldsPresent(list, 0, "city"));
+    }
+
+    @Test
+    @Story("Batch Expectations")
+    @Description("All expectations are checked together and every mismatch is reported")
+    public void testBatchExpectationsReportAllMismatches() {
+        Response response = jsonResponse(USER_JSON);
+
+        ApiUtils.verifyJson(response, JsonExpectations.create()
+                .exists("$.email")
+                .value("$.address.city", "Gwenborough")
+                .arraySize("$.tags", 3));
+
+        AssertionError error = expectThrows(AssertionError.class, () -> ApiUtils.verifyJson(response,
+                JsonExpectations.create()
+                        .value("$.name", "Ervin Howell")
+                        .exists("$.phone")
+                        .arraySize("$.tags", 2)
+                        .exists("$.id")));
+        assertTrue(error.getMessage().startsWith("3 of 4 JSON expectations failed"), error.getMessage());
+        assertTrue(error.getMessage().contains("$.phone"), error.getMessage());
+        assertTrue(error.getMessage().contains("$.tags"), error.getMessage());
+    }
+
+    @Test
+    @Story("Streaming Array Checks")
+    @Description("Array size and per-element predicates are evaluated on the token stream")
+    public void testStreamingArrayValidation() {
+        StringBuilder photos = new StringBuilder("[");
+        for (int i = 1; i <= 5000; i++) {
+            photos.append(i > 1 ? "," : "").append("{\"id\":").append(i)
+                    .append(",\"title\":\"photo ").append(i).append("\",\"tags\":[1,2]}");
+        }
+        Response response = jsonResponse(photos.append("]").toString());
+
+        assertEquals(ApiUtils.countJsonArrayElements(response, "$"), 5000);
+        assertEquals(ApiUtils.countJsonArrayElements(response, "$[4999].tags"), 2);
+        ApiUtils.verifyJsonArraySize(response, "$", 5000, "photos");
+        ApiUtils.verifyEachJsonArrayElement(response, "$", "has a non-empty title",
+                photo -> !photo.path("title").asText().isEmpty());
+
+        AssertionError error = expectThrows(AssertionError.class, () -> ApiUtils.verifyEachJsonArrayElement(
+                response, "$", "has an even id", photo -> photo.path("id").asInt() % 2 == 0));
+        assertTrue(error.getMessage().startsWith("2500 of 5000 elements"), error.getMessage());
+    }
+
+    @Test
+    @Story("Schema Validation")
+    @Description("Schemas under schemas/ are compiled once and list elements are validated individually")
+    public void testSchemaValidation() {
+        String user = "{\"id\":%d,\"name\":\"Leanne Graham\",\"email\":\"Sincere@april.biz\",\"phone\":\"1-770-736-8031\"," +
+                "\"website\":\"http://hildegard.org\",\"address\":{\"street\":\"Kulas Light\",\"suite\":\"Apt. 556\"," +
+                "\"city\":\"Gwenborough\",\"zipcode\":\"92998-3874\",\"geo\":{\"lat\":-37.3159,\"lng\":81.1496}}," +
+                "\"company\":{\"name\":\"Romaguera-Crona\",\"catchPhrase\":\"Multi-layered\",\"bs\":\"e-markets\"}}";
+
+        assertTrue(SchemaRegistry.getSchemaNames().contains("user-schema"), "user-schema should be registered");
+        ApiUtils.verifyJsonSchema(jsonResponse(String.format(user, 1)), "user-schema");
+        ApiUtils.verifyJsonSchema(jsonResponse("[" + String.format(user, 1) + "," + String.format(user, 2) + "]"), "user-schema");
+
+        AssertionError error = expectThrows(AssertionError.class, () -> ApiUtils.verifyJsonSchema(
+                jsonResponse("[" + String.format(user, 1) + ",{\"id\":\"two\"}]"), "user-schema"));
+        assertTrue(error.getMessage().contains("[1]"), error.getMessage());
+        assertEquals(SchemaRegistry.getTimings().get("user-schema").getValidationCount(), 3);
+    }
+
+    @Test
+    @Story("Byte-Level Body Matching")
+    @Description("Body assertions search raw UTF-8 bytes without decoding to a String")
+    public void testByteLevelMatching() {
+        String body = "{\"title\":\"Café ☕ 😀\",\"body\":\"ushers she\"}";
+        ByteBuffer bytes = ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(ByteMatcher.indexOf(bytes, "☕"), body.substring(0, body.indexOf('☕')).getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(ByteMatcher.indexOf(bytes, "tea"), -1);
+        assertTrue(ByteMatcher.equalsUtf8(bytes, body), "UTF-8 equality should hold");
+        assertFalse(ByteMatcher.equalsUtf8(bytes, body + " "), "Longer text should not match");
+
+        MultiLiteralMatcher matcher = MultiLiteralMatcher.of("he", "she", "hers", "Café", "😀", "missing");
+        assertEquals(matcher.findAll(bytes), new HashSet<>(Arrays.asList("he", "she", "hers", "Café", "😀")));
+        assertEquals(matcher.findMissing(bytes), new HashSet<>(Arrays.asList("missing")));
+
+        Response response = jsonResponse(body);
+        ApiUtils.verifyBodyContains(response, "ushers", "Café");
+        ApiUtils.verifyBodyEquals(response, body);
+        assertThrows(AssertionError.class, () -> ApiUtils.verifyBodyContains(response, "Cafe"));
+    }
+
+    public static class Geo {
+        public double lat;
+        public double lng;
+    }
+
+    @Test
+    @Story("Typed Extraction")
+    @Description("Values are bound directly to the requested type")
+    public void testTypedExtraction() {
+        Response response = jsonResponse(USER_JSON);
+        Response list = jsonResponse("[{\"id\":11,\"userId\":1},{\"id\":12,\"userId\":1},{\"id\":13,\"userId\":2}]");
+
+        Geo geo = ApiUtils.extractJsonValue(response, "$.address.geo", Geo.class);
+        assertEquals(geo.lat, -37.3159, 1e-9);
+        assertEquals(ApiUtils.extractJsonValue(response, "$.id", Long.class), Long.valueOf(1));
+        assertEquals(ApiUtils.extractJsonValue(response, "$['name']", String.class), "Leanne Graham");
+        assertEquals(ApiUtils.extractJsonValue(list, "$[*].id", int[].class), new int[] {11, 12, 13});
+        assertEquals(ApiUtils.extractJsonValue(list, "$[?(@.userId == 2)].id", long[].class), new long[] {13});
+
+        List<Map<String, Integer>> posts = ApiUtils.extractJsonValue(list, "$", new TypeReference<List<Map<String, Integer>>>() { });
+        assertEquals(posts.size(), 3);
+        assertThrows(RuntimeException.class, () -> ApiUtils.extractJsonValue(response, "$.missing", String.class));
+    }
+
+    @Test
+    @Story("Streaming JSON Paths")
+    @Description("Multi-name selectors and out-of-range indices are left to the JSON path engine")
+    public void testStreamingPathFallbacks() {
+        Response response = jsonResponse(USER_JSON);
+
+        assertNull(StreamingJsonPath.parse("$['name','email']"), "Several names are not a definite path");
+        Map<String, Object> picked = ApiUtils.extractJsonValue(response, "$['name','email']",
+                new TypeReference<Map<String, Object>>() { });
+        assertEquals(picked, Map.of("name", "Leanne Graham", "email", "Sincere@april.biz"));
+
+        assertNull(StreamingJsonPath.parse("$.tags[99999999999]"), "Indices beyond int range should not be streamed");
+        assertThrows(AssertionError.class, () -> ApiUtils.verifyJsonFieldExists(response, "$.tags[99999999999]", "tag"));
+        assertNotNull(StreamingJsonPath.parse("$.tags[2]"));
+        assertNotNull(StreamingJsonPath.parse("$['address'].city"));
+    }
+
+    @Test
+    @Story("Large Responses")
+    @Description("Spilled bodies are asserted from a memory-mapped file")
+    public void testSpilledResponseAssertions() {
+        Response small = jsonResponse(USER_JSON);
+        assertFalse(ResponseBodies.spillIfLarge(small), "Small bodies should stay on the heap");
+
+        StringBuilder comments = new StringBuilder("[");
+        for (int i = 1; i <= 2000; i++) {
+            comments.append(i > 1 ? "," : "").append("{\"id\":").append(i).append(",\"email\":\"user").append(i).append("@example.com\"}");
+        }
+        Response large = jsonResponse(comments.append("]").toString());
+        ResponseBodies.spill(large);
+
+        assertTrue(ResponseBodies.isSpilled(large), "Body should be memory-mapped");
+        assertEquals(ApiUtils.countJsonArrayElements(large, "$"), 2000);
+        assertEquals(ApiUtils.extractJsonValue(large, "$[1999].id", Integer.class), Integer.valueOf(2000));
+        ApiUtils.verifyJsonFieldsPresent(large, 0, "id", "email");
+        ApiUtils.verifyBodyContains(large, "user1999@example.com");
+        ApiUtils.verifyJsonFieldValue(large, "$[0].email", "user1@example.com", "email");
+        ApiUtils.verifyJsonFieldExists(large, "$[1].id", "id");
+        ApiUtils.verifyJson(large, JsonExpectations.create()
+                .value("$[2].id", 3)
+                .arraySize("$", 2000));
+        assertFalse(ResponseDocumentCache.contains(large), "Spilled bodies should never be parsed into a document");
+
+        AssertionError error = expectThrows(AssertionError.class,
+                () -> ApiUtils.verifyJsonFieldValue(large, "$[?(@.id == 5)].email", "user5@example.com", "email"));
+        assertTrue(error.getMessage().contains("not loaded for spilled responses"), error.getMessage());
+        assertFalse(ResponseDocumentCache.contains(large), "Indefinite paths should fail instead of loading the body");
+        assertTrue(ResponseBodies.preview(large).endsWith("bytes)"), "Preview should be truncated");
+    }
+
+    @Test
+    @Story("Snapshot Testing")
+    @Description("Snapshots are recorded once and compared by structural hash, ignoring volatile fields")
+    public void testSnapshotComparison() throws IOException {
+        Path directory = Paths.get("target", "test-snapshots");
+        System.setProperty("snapshot.directory", directory.toString());
+        try {
+            String original = "{\"id\":7,\"meta\":{\"generatedAt\":\"10:00\"},\"items\":[{\"n\":1.0,\"ts\":1},{\"n\":2,\"ts\":2}]}";
+            String reordered = "{\"items\":[{\"ts\":9,\"n\":1},{\"n\":2.00,\"ts\":8}],\"meta\":{\"generatedAt\":\"11:30\"},\"id\":7}";
+            String changed = "{\"id\":8,\"meta\":{\"generatedAt\":\"12:00\"},\"items\":[{\"n\":1,\"ts\":1}]}";
+
+            ApiUtils.verifyMatchesSnapshot(jsonResponse(original), "GET /items", "meta.generatedAt", "ts");
+            assertTrue(Files.exists(directory.resolve("GET__items.json")), "Snapshot should be recorded");
+
+            ApiUtils.verifyMatchesSnapshot(jsonResponse(reordered), "GET /items", "meta.generatedAt", "ts");
+            AssertionError error = expectThrows(AssertionError.class,
+                    () -> ApiUtils.verifyMatchesSnapshot(jsonResponse(changed), "GET /items", "meta.generatedAt", "ts"));
+            assertTrue(error.getMessage().contains("$.id: 8, expected 7"), error.getMessage());
+            assertTrue(error.getMessage().contains("$.items: array size 1, expected 2"), error.getMessage());
+        } finally {
+            System.clearProperty("snapshot.directory");
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+}
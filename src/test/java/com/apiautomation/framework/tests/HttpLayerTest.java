@@ -0,0 +1,651 @@
+package com.apiautomation.framework.tests;
+
+import com.apiautomation.framework.http.AsyncApiClient;
+import com.apiautomation.framework.http.CircuitBreaker;
+import com.apiautomation.framework.http.CircuitBreakerFilter;
+import com.apiautomation.framework.http.ConditionalGetCache;
+import com.apiautomation.framework.http.ConnectionPoolManager;
+import com.apiautomation.framework.http.LatencyRecorder;
+import com.apiautomation.framework.http.LatencyRecordingFilter;
+import com.apiautomation.framework.http.LatencySlos;
+import com.apiautomation.framework.http.RateLimitFilter;
+import com.apiautomation.framework.http.RateLimiter;
+import com.apiautomation.framework.http.RequestContext;
+import com.apiautomation.framework.http.RequestPhases;
+import com.apiautomation.framework.http.RetryPolicy;
+import com.apiautomation.framework.http.TokenBucket;
+import com.apiautomation.framework.http.TransportMetrics;
+import com.apiautomation.framework.stub.Http2StubServer;
+import com.apiautomation.framework.stub.StubApiServer;
+import com.apiautomation.framework.utils.ApiUtils;
+import com.apiautomation.framework.utils.TestExecutors;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.HdrHistogram.Histogram;
+import org.apache.http.pool.PoolStats;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+@Epic("API Testing Framework")
+@Feature("HTTP Request Layer")
+public class HttpLayerTest {
+
+    private static final RestAssuredConfig NO_RETRIES = ConnectionPoolManager.restAssuredConfig(
+            new RetryPolicy(0, Set.of(), false, Set.of(), 1, 1, 0));
+
+    private StubApiServer stub;
+
+    @BeforeClass
+    public void startStub() throws IOException {
+        stub = StubApiServer.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        stub.close();
+    }
+
+    @BeforeMethod
+    public void resetStub() {
+        stub.clearOverrides();
+    }
+
+    @Test
+    @Story("Connection Pooling")
+    @Description("Sequential requests reuse one pooled keep-alive connection")
+    public void testConnectionsAreReused() {
+        int connectionsBefore = stub.getConnectionCount();
+
+        for (int i = 1; i <= 10; i++) {
+            Response response = RestAssured.given()
+                    .config(ConnectionPoolManager.restAssuredConfig())
+                    .baseUri(stub.getBaseUrl())
+                    .when()
+                    .get("/users/" + i)
+                    .then()
+                    .statusCode(200)
+                    .extract().response();
+            assertTrue(response.getBody().asString().contains("\"id\":" + i), "Response should be for user " + i);
+        }
+
+        PoolStats stats = ConnectionPoolManager.getTotalStats();
+        // At most one new connection: an earlier test may already have left one in the pool
+        int newConnections = stub.getConnectionCount() - connectionsBefore;
+        assertTrue(newConnections <= 1, "All requests should share one connection, opened " + newConnections);
+        assertEquals(stats.getLeased(), 0, "No connection should stay leased");
+        assertTrue(stats.getAvailable() >= 1, "The connection should be back in the pool: " + ConnectionPoolManager.describeStats());
+    }
+
+    @Test
+    @Story("Async Requests")
+    @Description("Hundreds of concurrent async requests complete as regular RestAssured responses")
+    public void testAsyncRequestsFanOut() throws IOException {
+        // Own stub: the fan-out leaves hundreds of idle keep-alive connections behind
+        try (StubApiServer asyncStub = StubApiServer.start()) {
+            AsyncApiClient client = AsyncApiClient.create(asyncStub.getBaseUrl()).withRateLimiter(RateLimiter.unlimited());
+            int requests = 300;
+
+            List<CompletableFuture<Response>> futures = IntStream.range(0, requests)
+                    .mapToObj(i -> client.get("/posts/" + (i % 100 + 1)))
+                    .collect(Collectors.toList());
+            List<Response> responses = AsyncApiClient.joinAll(futures);
+
+            assertEquals(responses.size(), requests);
+            for (int i = 0; i < requests; i++) {
+                Response response = responses.get(i);
+                assertEquals(response.getStatusCode(), 200, "Request " + i + " should succeed");
+                ApiUtils.verifyJsonFieldValue(response, "$.id", i % 100 + 1, "id");
+                assertTrue(response.getTime() >= 0, "Response time should be recorded");
+                assertTrue(response.getContentType().startsWith("application/json"), "Content type should be carried over");
+            }
+
+            Response created = client.post("/posts", "{\"title\":\"Async Post\",\"userId\":1}").join();
+            assertEquals(created.getStatusCode(), 201);
+            assertEquals(ApiUtils.extractJsonValue(created, "$.id", Integer.class), Integer.valueOf(101));
+        }
+    }
+
+    @Test
+    @Story("Parallel Fan-Out")
+    @Description("Blocking RestAssured calls fanned out on the configured executor return in order")
+    public void testBlockingFanOut() throws IOException {
+        try (StubApiServer fanOutStub = StubApiServer.start(32)) {
+            int requests = 200;
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+
+            List<Response> responses = TestExecutors.fanOut(requests, i -> {
+                threads.add(Thread.currentThread().toString());
+                Response response = RequestContext.forBaseUri(fanOutStub.getBaseUrl()).given()
+                        .when()
+                        .get("/users/" + (i % 10 + 1))
+                        .then()
+                        .statusCode(200)
+                        .extract().response();
+                // Reading the body releases the pooled connection for the next task
+                ApiUtils.verifyJsonFieldValue(response, "$.id", i % 10 + 1, "id");
+                return response;
+            });
+
+            assertEquals(responses.size(), requests);
+            for (int i = 0; i < requests; i++) {
+                assertEquals(ApiUtils.extractJsonValue(responses.get(i), "$.id", Integer.class),
+                        Integer.valueOf(i % 10 + 1), "Results should keep task order");
+            }
+            if (!TestExecutors.isVirtualThreadMode()) {
+                assertTrue(threads.size() <= TestExecutors.getPlatformThreads(),
+                        "Platform mode should stay within test.parallel.threads, used " + threads.size());
+            }
+            assertEquals(fanOutStub.getRequestCount(), requests);
+        }
+    }
+
+    @Test
+    @Story("HTTP/2 Transport")
+    @Description("With HTTP/2, concurrent requests are multiplexed over a single connection")
+    public void testHttp2RequestsShareOneConnection() throws IOException {
+        try (Http2StubServer h2Stub = Http2StubServer.start()) {
+            AsyncApiClient client = AsyncApiClient.create(h2Stub.getBaseUrl(), HttpClient.Version.HTTP_2);
+            long http2Before = TransportMetrics.getRequestCount("HTTP/2");
+
+            // The first request upgrades the cleartext connection to h2
+            Response first = client.get("/users/1").join();
+            assertEquals(AsyncApiClient.protocolOf(first), "HTTP/2");
+
+            List<CompletableFuture<Response>> futures = IntStream.rangeClosed(1, 100)
+                    .mapToObj(id -> client.get("/posts/" + id))
+                    .collect(Collectors.toList());
+            List<Response> responses = AsyncApiClient.joinAll(futures);
+
+            for (int i = 0; i < responses.size(); i++) {
+                Response response = responses.get(i);
+                assertEquals(response.getStatusCode(), 200);
+                assertEquals(AsyncApiClient.protocolOf(response), "HTTP/2", "Request " + i + " should use h2");
+                ApiUtils.verifyJsonFieldValue(response, "$.id", i + 1, "id");
+            }
+            assertEquals(h2Stub.getConnectionCount(), 1, "All requests should share one connection");
+            // The server sees the upgrade request itself as HTTP/1.1, everything after it as h2
+            assertEquals(h2Stub.getProtocolCounts().get("HTTP/2.0"), Long.valueOf(100));
+            assertEquals(TransportMetrics.getRequestCount("HTTP/2") - http2Before, 101);
+        }
+    }
+
+    @Test
+    @Story("Response Cache")
+    @Description("Repeated GETs are revalidated with If-None-Match and served from the cache on 304")
+    public void testConditionalGetCache() {
+        ConditionalGetCache cache = new ConditionalGetCache(1024 * 1024);
+        AtomicInteger fullBodies = new AtomicInteger();
+        stub.override("GET", "/users/7", exchange -> {
+            String etag = "\"user-7-v1\"";
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+            } else {
+                fullBodies.incrementAndGet();
+                StubApiServer.respond(exchange, 200, "{\"id\":7,\"name\":\"User 7\"}");
+            }
+        });
+
+        for (int i = 0; i < 5; i++) {
+            Response response = cachedGet(cache, "/users/7");
+            assertEquals(response.getStatusCode(), 200, "Revalidated responses should look like the original");
+            ApiUtils.verifyJsonFieldValue(response, "$.name", "User 7", "name");
+        }
+        assertEquals(fullBodies.get(), 1, "Only the first read should transfer the body");
+        assertEquals(cache.getMissCount(), 1);
+        assertEquals(cache.getRevalidationCount(), 4);
+
+        Response fresh = RequestContext.forBaseUri(stub.getBaseUrl()).given()
+                .filter(cache)
+                .header(ConditionalGetCache.bypass())
+                .get("/users/7");
+        assertEquals(fresh.getStatusCode(), 200);
+        assertEquals(fullBodies.get(), 2, "A bypassed read should fetch the full body");
+        assertEquals(cache.getBypassCount(), 1);
+    }
+
+    @Test
+    @Story("Response Cache")
+    @Description("Fresh entries are served without a request, evicted by size and dropped on writes")
+    public void testResponseCacheFreshnessAndEviction() {
+        stub.override("GET", "/posts/1", exchange -> {
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=60");
+            StubApiServer.respond(exchange, 200, "{\"id\":1,\"title\":\"Post title 1\"}");
+        });
+        ConditionalGetCache cache = new ConditionalGetCache(1024 * 1024);
+        int requestsBefore = stub.getRequestCount();
+
+        cachedGet(cache, "/posts/1");
+        Response hit = cachedGet(cache, "/posts/1");
+        ApiUtils.verifyJsonFieldValue(hit, "$.id", 1, "id");
+        assertEquals(stub.getRequestCount() - requestsBefore, 1, "A fresh entry should not hit the server");
+        assertEquals(cache.getHitCount(), 1);
+
+        RequestContext.forBaseUri(stub.getBaseUrl()).given()
+                .filter(cache)
+                .contentType("application/json")
+                .body("{\"title\":\"Changed\"}")
+                .put("/posts/1");
+        cachedGet(cache, "/posts/1");
+        assertEquals(cache.getMissCount(), 2, "A write should invalidate the cached read");
+
+        ConditionalGetCache tiny = new ConditionalGetCache(1500);
+        for (int id = 1; id <= 5; id++) {
+            cachedGet(tiny, "/users/" + id);
+        }
+        assertTrue(tiny.getTotalBytes() <= 1500, "Cache should stay within its size bound");
+        assertTrue(tiny.getEvictionCount() > 0, "Older entries should be evicted: " + tiny.describeStats());
+    }
+
+    private Response cachedGet(ConditionalGetCache cache, String path) {
+        return RequestContext.forBaseUri(stub.getBaseUrl()).given()
+                .filter(cache)
+                .get(path);
+    }
+
+    @Test
+    @Story("Request Context")
+    @Description("Threads bound to different base URLs send requests to their own service")
+    public void testRequestContextIsPerThread() throws Exception {
+        try (StubApiServer otherStub = StubApiServer.start()) {
+            int stubBefore = stub.getRequestCount();
+            int otherBefore = otherStub.getRequestCount();
+
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String baseUrl = i % 2 == 0 ? stub.getBaseUrl() : otherStub.getBaseUrl();
+                tasks.add(() -> {
+                    RequestContext.open(baseUrl);
+                    try {
+                        assertEquals(RequestContext.current().getBaseUri(), baseUrl);
+                        return RequestContext.current().given().get("/users/1").then().statusCode(200)
+                                .extract().response().getStatusCode();
+                    } finally {
+                        RequestContext.close();
+                    }
+                });
+            }
+            TestExecutors.invokeAll(tasks);
+
+            assertEquals(stub.getRequestCount() - stubBefore, 10, "Half the requests should reach the first stub");
+            assertEquals(otherStub.getRequestCount() - otherBefore, 10, "Half the requests should reach the second stub");
+            assertSame(RequestContext.forBaseUri(stub.getBaseUrl()).getSpecification(),
+                    RequestContext.forBaseUri(stub.getBaseUrl()).getSpecification(), "Specs should be built once per base URL");
+        }
+    }
+
+    @Test
+    @Story("Retries")
+    @Description("Transient 503s and dropped connections are retried until the request succeeds")
+    public void testRetriesRecoverFromTransientFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        stub.override("GET", "/posts/5", exchange -> {
+            int call = calls.incrementAndGet();
+            if (call == 1) {
+                exchange.close();
+            } else if (call == 2) {
+                StubApiServer.respond(exchange, 503, "{}");
+            } else {
+                StubApiServer.respond(exchange, 200, "{\"id\":5}");
+            }
+        });
+        RetryPolicy policy = new RetryPolicy(3, Set.of(503), true, Set.of("GET"), 5, 20, 10);
+
+        Response response = retrying(policy).get("/posts/5");
+
+        assertEquals(response.getStatusCode(), 200);
+        ApiUtils.verifyJsonFieldValue(response, "$.id", 5, "id");
+        assertEquals(calls.get(), 3, "Two failures should be retried");
+        assertEquals(policy.getFirstAttemptCount(), 1);
+        assertEquals(policy.getRetryCount(), 2, "Retries should be counted apart from first attempts");
+        assertEquals(policy.getRecoveredCount(), 1);
+        assertEquals(policy.getBudgetLeft(), 8);
+    }
+
+    @Test
+    @Story("Retries")
+    @Description("The retry budget caps retries across requests and writes are not retried")
+    public void testRetryBudgetAndNonIdempotentRequests() {
+        AtomicInteger calls = new AtomicInteger();
+        stub.override("GET", "/posts/6", exchange -> {
+            calls.incrementAndGet();
+            StubApiServer.respond(exchange, 503, "{}");
+        });
+        RetryPolicy policy = new RetryPolicy(3, Set.of(503), true, Set.of("GET"), 1, 5, 2);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(retrying(policy).get("/posts/6").getStatusCode(), 503);
+        }
+        assertEquals(calls.get(), 5, "Only two retries fit in the budget");
+        assertEquals(policy.getBudgetLeft(), 0);
+        assertTrue(policy.getDeniedByBudgetCount() >= 2, policy.describeStats());
+
+        stub.override("POST", "/posts", exchange -> {
+            calls.incrementAndGet();
+            StubApiServer.respond(exchange, 503, "{}");
+        });
+        RetryPolicy getOnly = new RetryPolicy(3, Set.of(503), true, Set.of("GET"), 1, 5, 10);
+        int before = calls.get();
+        retrying(getOnly).contentType("application/json").body("{}").post("/posts");
+        assertEquals(calls.get() - before, 1, "POST is not in retry.methods and must not be retried");
+    }
+
+    @Test
+    @Story("Latency Percentiles")
+    @Description("Retried requests are recorded per attempt, with retries apart and without the backoff")
+    public void testRetriedRequestLatencyExcludesBackoff() {
+        AtomicInteger calls = new AtomicInteger();
+        stub.override("GET", "/posts/13", exchange ->
+                StubApiServer.respond(exchange, calls.incrementAndGet() == 1 ? 503 : 200, "{\"id\":13}"));
+        RetryPolicy policy = new RetryPolicy(3, Set.of(503), false, Set.of("GET"), 300, 300, 10);
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+
+        Response response = retrying(policy).filter(new LatencyRecordingFilter(recorder)).get("/posts/13");
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(response.getStatusCode(), 200);
+        assertTrue(elapsedMillis >= 300, "The retry should have waited out the backoff, took " + elapsedMillis + "ms");
+        Histogram first = recorder.getHistogram("GET /posts/{id}");
+        Histogram retry = recorder.getHistogram("GET /posts/{id}" + LatencyRecorder.RETRY_SUFFIX);
+        assertEquals(first.getTotalCount(), 1, "The first attempt should be recorded on its own");
+        assertEquals(retry.getTotalCount(), 1, "The retry should be recorded apart from first attempts");
+        assertTrue(LatencyRecorder.millis(first.getMaxValue()) < 250, recorder.report());
+        assertTrue(LatencyRecorder.millis(retry.getMaxValue()) < 250, recorder.report());
+    }
+
+    @Test
+    @Story("Rate Limiting")
+    @Description("Every retry of a throttled request takes a permit from the limiter that admitted it")
+    public void testRetriesTakeRateLimitPermits() {
+        AtomicInteger calls = new AtomicInteger();
+        stub.override("GET", "/posts/12", exchange ->
+                StubApiServer.respond(exchange, calls.incrementAndGet() <= 2 ? 429 : 200, "{\"id\":12}"));
+        RetryPolicy policy = new RetryPolicy(3, Set.of(429), false, Set.of("GET"), 1, 2, 10);
+        RateLimiter limiter = new RateLimiter(0, Map.of("GET /posts/{id}", 10.0), 1);
+        long start = System.nanoTime();
+
+        Response response = retrying(policy).filter(new RateLimitFilter(limiter)).get("/posts/12");
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(calls.get(), 3, "Two 429s should be retried");
+        assertEquals(limiter.getRequestCount(), 3, "The first attempt and each retry should take a permit");
+        assertEquals(limiter.getThrottledCount(), 2, "Both retries should wait for a permit: " + limiter.describe());
+        assertTrue(elapsedMillis >= 150, "Three permits at 10/s should take about 200ms, took " + elapsedMillis + "ms");
+    }
+
+    private RequestSpecification retrying(RetryPolicy policy) {
+        return RestAssured.given()
+                .config(ConnectionPoolManager.restAssuredConfig(policy))
+                .baseUri(stub.getBaseUrl());
+    }
+
+    @Test
+    @Story("Rate Limiting")
+    @Description("The token bucket spaces out permits taken concurrently by many threads")
+    public void testTokenBucketLimitsConcurrentCallers() {
+        TokenBucket bucket = new TokenBucket(400, 1);
+        long start = System.nanoTime();
+
+        List<Long> waits = TestExecutors.fanOut(200, i -> bucket.acquire());
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMillis >= 450, "200 permits at 400/s should take about 500ms, took " + elapsedMillis + "ms");
+        assertTrue(waits.stream().filter(wait -> wait > 0).count() >= 190, "Almost every caller should have waited");
+    }
+
+    @Test
+    @Story("Rate Limiting")
+    @Description("Per-endpoint limits throttle only their endpoint and are reported")
+    public void testEndpointRateLimit() {
+        RateLimiter limiter = new RateLimiter(0, Map.of("GET /posts/{id}", 20.0), 1);
+        long start = System.nanoTime();
+
+        for (int id = 1; id <= 10; id++) {
+            limiter.acquire("GET", stub.getBaseUrl() + "/posts/" + id);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long throttled = limiter.getThrottledCount();
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire("GET", "/users/1");
+        }
+        RequestContext.forBaseUri(stub.getBaseUrl()).given()
+                .filter(new RateLimitFilter(limiter))
+                .get("/users/1")
+                .then().statusCode(200);
+
+        assertTrue(elapsedMillis >= 400, "10 requests at 20/s should take about 450ms, took " + elapsedMillis + "ms");
+        assertTrue(throttled >= 8, "Requests after the first should be throttled: " + limiter.describe());
+        assertEquals(limiter.getThrottledCount(), throttled, "Other endpoints should not be throttled");
+        assertEquals(limiter.getRequestCount(), 15);
+        assertTrue(limiter.report().contains("GET /posts/{id}"), limiter.report());
+        assertTrue(limiter.getActualThroughput() > 0);
+    }
+
+    @Test
+    @Story("Circuit Breaker")
+    @Description("Failing endpoints open their breaker, fail fast, then close after successful trial calls")
+    public void testCircuitBreakerOpensAndRecovers() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        stub.override("GET", "/posts/8", exchange -> {
+            calls.incrementAndGet();
+            StubApiServer.respond(exchange, 503, "{}");
+        });
+        CircuitBreakerFilter breakers = new CircuitBreakerFilter(
+                new CircuitBreaker.Settings(4, 4, 50, 10_000, 100, 200, 2), false);
+        CircuitBreaker breaker = breakers.breakerFor("GET", "/posts/8");
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(guardedGet(breakers, "/posts/8"), 503);
+        }
+        assertEquals(breaker.getState(), CircuitBreaker.State.OPEN, breaker.describe());
+        expectThrows(CircuitBreakerFilter.CircuitOpenException.class, () -> guardedGet(breakers, "/posts/8"));
+        assertEquals(calls.get(), 4, "Requests must not be sent while the breaker is open");
+        assertEquals(guardedGet(breakers, "/users/9"), 200, "Other endpoints stay closed");
+
+        Thread.sleep(250);
+        stub.clearOverrides();
+        assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        assertEquals(guardedGet(breakers, "/posts/8"), 200);
+        assertEquals(guardedGet(breakers, "/posts/8"), 200);
+
+        assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED, breaker.describe());
+        assertEquals(breaker.getOpenedCount(), 1);
+        assertEquals(breaker.getRejectedCount(), 1);
+        assertTrue(breakers.describeTripped().contains("GET /posts/{id}"), breakers.describeTripped());
+    }
+
+    @Test
+    @Story("Circuit Breaker")
+    @Description("Async requests report to the endpoint's breaker and fail fast while it is open")
+    public void testAsyncRequestsUseCircuitBreaker() {
+        AtomicInteger calls = new AtomicInteger();
+        stub.override("GET", "/posts/9", exchange -> {
+            calls.incrementAndGet();
+            StubApiServer.respond(exchange, 503, "{}");
+        });
+        CircuitBreakerFilter breakers = new CircuitBreakerFilter(
+                new CircuitBreaker.Settings(4, 4, 50, 10_000, 100, 10_000, 2), false);
+        RateLimiter limiter = new RateLimiter(1000, Map.of(), 10);
+        AsyncApiClient client = AsyncApiClient.create(stub.getBaseUrl()).withCircuitBreakers(breakers).withRateLimiter(limiter);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(client.get("/posts/9").join().getStatusCode(), 503);
+        }
+        CompletableFuture<Response> rejected = client.get("/posts/9");
+
+        assertTrue(rejected.isCompletedExceptionally(), "The future should fail without sending the request");
+        CompletionException error = expectThrows(CompletionException.class, rejected::join);
+        assertTrue(error.getCause() instanceof CircuitBreakerFilter.CircuitOpenException, error.toString());
+        assertEquals(calls.get(), 4, "Requests must not be sent while the breaker is open");
+        assertEquals(limiter.getRequestCount(), 4, "Rejected requests must not take rate-limit permits");
+        assertEquals(breakers.breakerFor("GET", "/posts/9").getState(), CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @Story("Circuit Breaker")
+    @Description("A run of slow calls opens the breaker and further requests are skipped")
+    public void testCircuitBreakerOpensOnSlowCalls() {
+        stub.override("GET", "/users/3", exchange -> {
+            try {
+                Thread.sleep(80);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubApiServer.respond(exchange, 200, "{\"id\":3}");
+        });
+        CircuitBreakerFilter breakers = new CircuitBreakerFilter(
+                new CircuitBreaker.Settings(3, 3, 50, 50, 50, 10_000, 1), true);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(guardedGet(breakers, "/users/3"), 200);
+        }
+
+        CircuitBreaker breaker = breakers.breakerFor("GET", "/users/3");
+        assertEquals(breaker.getState(), CircuitBreaker.State.OPEN, breaker.describe());
+        expectThrows(SkipException.class, () -> guardedGet(breakers, "/users/3"));
+    }
+
+    /**
+     * GET through {@code breakers} without retries; reads the body so the connection is released.
+     */
+    private int guardedGet(CircuitBreakerFilter breakers, String path) {
+        Response response = RestAssured.given()
+                .config(NO_RETRIES)
+                .baseUri(stub.getBaseUrl())
+                .filter(breakers)
+                .get(path);
+        response.asString();
+        return response.getStatusCode();
+    }
+
+    @Test
+    @Story("Request Phases")
+    @Description("Each request's DNS, connect, write, first-byte and body phases are timed")
+    public void testRequestPhasesAreTimed() throws IOException {
+        try (StubApiServer phaseStub = StubApiServer.start()) {
+            RequestPhases.drainReport();
+            RequestSpecification spec = RequestContext.forBaseUri(phaseStub.getBaseUrl()).getSpecification();
+
+            Response first = RestAssured.given().spec(spec).get("/users/1").then().statusCode(200).extract().response();
+            first.asString();
+            Response second = RestAssured.given().spec(spec).get("/users/2");
+            second.asString();
+
+            RequestPhases newConnection = RequestPhases.of(first);
+            assertNotNull(newConnection, "Timings should be tied to the response");
+            assertFalse(newConnection.isConnectionReused(), newConnection.describe());
+            assertTrue(newConnection.getDnsNanos() >= 0 && newConnection.getConnectNanos() > 0, newConnection.describe());
+            assertEquals(newConnection.getTlsNanos(), RequestPhases.NOT_MEASURED, "Plain HTTP has no handshake");
+            assertTrue(newConnection.getWriteNanos() > 0 && newConnection.getFirstByteNanos() > 0, newConnection.describe());
+            assertTrue(newConnection.getBodyNanos() > 0, newConnection.describe());
+
+            RequestPhases pooled = RequestPhases.of(second);
+            assertTrue(pooled.isConnectionReused(), "The second request should reuse the connection: " + pooled.describe());
+            assertEquals(pooled.getDnsNanos(), RequestPhases.NOT_MEASURED);
+            assertTrue(pooled.getFirstByteNanos() > 0, pooled.describe());
+
+            String report = RequestPhases.drainReport();
+            assertTrue(report.contains("GET /users/1") && report.contains("GET /users/2"), report);
+            assertEquals(RequestPhases.drainReport(), "", "The report should be drained");
+        }
+    }
+
+    @Test
+    @Story("Latency Percentiles")
+    @Description("Latencies recorded from many threads are aggregated into per-endpoint percentiles")
+    public void testLatencyRecorderPercentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        TestExecutors.fanOut(1000, i -> {
+            recorder.record("GET", "/users/" + i, TimeUnit.MILLISECONDS.toNanos(i + 1));
+            return i;
+        });
+        RequestContext.forBaseUri(stub.getBaseUrl()).given()
+                .filter(new LatencyRecordingFilter(recorder))
+                .get("/posts/1")
+                .then().statusCode(200);
+
+        Histogram users = recorder.getHistogram("GET /users/{id}");
+        assertEquals(users.getTotalCount(), 1000);
+        assertEquals(LatencyRecorder.millis(users.getValueAtPercentile(50)), 500, 5);
+        assertEquals(LatencyRecorder.millis(users.getValueAtPercentile(99)), 990, 5);
+        assertEquals(LatencyRecorder.millis(users.getMaxValue()), 1000, 5);
+        assertEquals(recorder.getHistogram("GET /posts/{id}").getTotalCount(), 1);
+        String report = recorder.report();
+        assertTrue(report.contains("GET /users/{id}") && report.contains("p99.9"), report);
+    }
+
+    @Test
+    @Story("Latency Percentiles")
+    @Description("Failed requests are recorded, and stub traffic stays out of the suite-wide recorder")
+    public void testFailedAndStubRequestLatency() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        RequestContext unreachable = RequestContext.withFilters("http://127.0.0.1:1", new LatencyRecordingFilter(recorder));
+        expectThrows(Exception.class, () -> unreachable.given().config(NO_RETRIES).get("/users/5"));
+        assertEquals(recorder.getHistogram("GET /users/{id}").getTotalCount(), 1, "Failed calls must be recorded");
+
+        assertFalse(RequestContext.isSuiteTarget(stub.getBaseUrl()), "The stub is not the configured base.url");
+        Histogram before = LatencyRecorder.shared().getHistogram("GET /todos/{id}");
+        RequestContext.forBaseUri(stub.getBaseUrl()).given().get("/todos/1");
+        Histogram after = LatencyRecorder.shared().getHistogram("GET /todos/{id}");
+        assertEquals(after == null ? 0 : after.getTotalCount(), before == null ? 0 : before.getTotalCount(),
+                "Stub requests must not be recorded under the real API's endpoints");
+    }
+
+    @Test
+    @Story("Latency SLOs")
+    @Description("SLOs ignore a single outlier but fail on a shifted distribution, with a results table")
+    public void testLatencySlos() {
+        List<LatencySlos.Slo> parsed = LatencySlos.parse(new TreeMap<>(Map.of(
+                "GET./users.p95", "300",
+                "GET./users/42.p99.9", "800",
+                "min.samples", "20")));
+        assertEquals(parsed.size(), 2, "Only METHOD./path.pNN keys are objectives");
+        LatencySlos slos = new LatencySlos(parsed, 10);
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 0; i < 19; i++) {
+            recorder.record("GET", "/users", TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        recorder.record("GET", "/users", TimeUnit.SECONDS.toNanos(5));
+        recorder.record("GET", "/users/7", TimeUnit.SECONDS.toNanos(5));
+
+        LatencySlos.Report report = slos.enforce(recorder);
+        assertEquals(report.getResults().get(0).getStatus(), LatencySlos.Status.MET, report.toString());
+        assertEquals(report.getResults().get(1).getStatus(), LatencySlos.Status.INSUFFICIENT_SAMPLES, report.toString());
+
+        for (int i = 0; i < 20; i++) {
+            recorder.record("GET", "/users", TimeUnit.MILLISECONDS.toNanos(450));
+        }
+        AssertionError breach = expectThrows(AssertionError.class, () -> slos.enforce(recorder));
+        assertTrue(breach.getMessage().contains("GET /users ") && breach.getMessage().contains("BREACHED"),
+                breach.getMessage());
+    }
+}
@@ -0,0 +1,181 @@
+package com.apiautomation.framework.tests;
+
+import com.apiautomation.framework.http.IntendedStart;
+import com.apiautomation.framework.http.LatencyRecorder;
+import com.apiautomation.framework.http.LatencyRecordingFilter;
+import com.apiautomation.framework.http.RequestContext;
+import com.apiautomation.framework.load.ClosedModelRampRunner;
+import com.apiautomation.framework.load.LoadReport;
+import com.apiautomation.framework.load.LoadScenario;
+import com.apiautomation.framework.load.OpenModelLoadRunner;
+import com.apiautomation.framework.load.RampReport;
+import com.apiautomation.framework.stub.StubApiServer;
+import io.qameta.allure.*;
+import org.HdrHistogram.Histogram;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import static org.testng.Assert.*;
+
+@Epic("API Testing Framework")
+@Feature("Load Testing")
+public class LoadRunnerTest {
+
+    static final String[] WORKING_API_FLOWS = {
+            "testGetUsers", "testGetSpecificUser", "testGetPosts", "testCreatePost", "testUpdatePost", "testDeletePost"};
+
+    private StubApiServer stub;
+
+    @BeforeClass
+    public void startStub() throws IOException {
+        stub = StubApiServer.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    @Story("Open Model")
+    @Description("WorkingAPITest flows replayed at a fixed arrival rate against the stub all pass")
+    public void testWorkingApiFlowsAtTargetRate() {
+        List<LoadScenario> scenarios = LoadScenario.fromTestMethods(WorkingAPITest.class, WORKING_API_FLOWS);
+        int requestsBefore = stub.getRequestCount();
+
+        LoadReport report = new OpenModelLoadRunner(stub.getBaseUrl(), scenarios, 60, Duration.ofSeconds(1), 50).run();
+
+        assertEquals(report.getScheduledCount(), 60, report.toString());
+        assertEquals(report.getCompletedCount(), 60, report.toString());
+        assertEquals(report.getErrorRatePercent(), 0.0, report.toString());
+        assertEquals(stub.getRequestCount() - requestsBefore, 66, "One request per flow, plus one warm-up run each");
+        assertTrue(report.getThroughput() > 40 && report.getThroughput() < 80, report.toString());
+        assertEquals(report.getScenarioHistogram("testCreatePost").getTotalCount(), 10);
+        assertEquals(report.getRequestLatency().getHistogram("DELETE /posts/{id}").getTotalCount(), 10);
+    }
+
+    @Test
+    @Story("Open Model")
+    @Description("Running a load keeps the request context bound to the calling test thread")
+    public void testRunKeepsCallerContext() {
+        RequestContext caller = RequestContext.open(stub.getBaseUrl());
+        try {
+            new OpenModelLoadRunner(stub.getBaseUrl(), List.of(LoadScenario.of("noop", () -> { })),
+                    10, Duration.ofMillis(200), 1).run();
+
+            assertSame(RequestContext.current(), caller, "The warm-up should not unbind the caller's context");
+        } finally {
+            RequestContext.close();
+        }
+    }
+
+    @Test
+    @Story("Open Model")
+    @Description("Failed flows count as errors and queued arrivals are timed from their intended start")
+    public void testFailuresAndCoordinatedOmissionCorrection() {
+        List<LoadScenario> scenarios = List.of(
+                LoadScenario.of("slow", () -> Thread.sleep(200)),
+                LoadScenario.of("failing", () -> {
+                    throw new AssertionError("expected failure");
+                }));
+
+        // 10 slow runs of 200ms arrive every 100ms but only one run at a time fits, so they queue
+        LoadReport report = new OpenModelLoadRunner(stub.getBaseUrl(), scenarios, 20, Duration.ofSeconds(1), 1).run();
+
+        assertEquals(report.getScheduledCount(), 20, report.toString());
+        assertEquals(report.getCompletedCount(), 20, "Queued arrivals should still run: " + report);
+        assertEquals(report.getFailedCount(), 10, report.toString());
+        assertEquals(report.getErrorRatePercent(), 50.0, 0.001);
+        assertTrue(report.getFirstErrors().get("failing").contains("expected failure"), report.toString());
+
+        double raw = LatencyRecorder.millis(report.getScenarioHistogram("slow").getMaxValue());
+        double corrected = LatencyRecorder.millis(report.getCorrectedScenarioHistogram("slow").getMaxValue());
+        assertTrue(raw < 400, "Each run takes about 200ms once started: " + report);
+        assertTrue(corrected > 500, "The last arrivals waited for the earlier ones: " + report);
+    }
+
+    @Test
+    @Story("Open Model")
+    @Description("Request latency includes the wait before the first request of a run when an intended start is set")
+    public void testIntendedStartCorrectsRequestLatency() throws InterruptedException {
+        LatencyRecorder raw = new LatencyRecorder();
+        LatencyRecorder corrected = new LatencyRecorder();
+        RequestContext context = RequestContext.withFilters(stub.getBaseUrl(), new LatencyRecordingFilter(raw, corrected));
+        RequestContext.forBaseUri(stub.getBaseUrl()).given().get("/users/3").then().statusCode(200);
+
+        IntendedStart.set(System.nanoTime());
+        Thread.sleep(200);
+        context.given().get("/users/1").then().statusCode(200);
+        context.given().get("/users/2").then().statusCode(200);
+
+        Histogram rawUsers = raw.getHistogram("GET /users/{id}");
+        Histogram correctedUsers = corrected.getHistogram("GET /users/{id}");
+        assertEquals(correctedUsers.getTotalCount(), 2);
+        assertTrue(LatencyRecorder.millis(correctedUsers.getMaxValue()) >= 200, "The wait should be included");
+        assertTrue(LatencyRecorder.millis(rawUsers.getMaxValue()) < 200, "Raw latency starts at the request");
+        assertTrue(LatencyRecorder.millis(correctedUsers.getMinValue()) < 200,
+                "Only the first request of the run absorbs the wait");
+    }
+
+    @Test
+    @Story("Closed Model")
+    @Description("A ramp against a service that serves two flows at a time finds its knee at two users")
+    public void testRampFindsConcurrencyKnee() {
+        Semaphore capacity = new Semaphore(2);
+        List<LoadScenario> scenarios = List.of(LoadScenario.of("two-at-a-time", () -> {
+            capacity.acquire();
+            try {
+                Thread.sleep(50);
+            } finally {
+                capacity.release();
+            }
+        }));
+        ClosedModelRampRunner runner = new ClosedModelRampRunner(stub.getBaseUrl(), scenarios, 4, Duration.ofSeconds(1), 10, 20);
+        assertEquals(runner.getSteps(), List.of(1, 2, 4));
+        assertEquals(new ClosedModelRampRunner(stub.getBaseUrl(), scenarios, 12, Duration.ofSeconds(1), 10, 20).getSteps(),
+                List.of(1, 2, 4, 8, 12), "The configured maximum is always the last step");
+        assertEquals(new ClosedModelRampRunner(stub.getBaseUrl(), scenarios, 32, Duration.ofSeconds(1), 10, 20)
+                .withServerThreads(stub.getThreads()).getSteps(), List.of(1, 2, 4, 8, 16),
+                "Steps should stop at the stub's thread count");
+
+        RampReport report = runner.run();
+
+        assertEquals(report.getKneeUsers(), 2, report.toString());
+        List<RampReport.Step> steps = report.getSteps();
+        assertTrue(steps.get(1).getThroughput() > steps.get(0).getThroughput() * 1.5, "Two users should scale: " + report);
+        assertTrue(steps.get(2).getP99Millis() > steps.get(1).getP99Millis() * 1.5, "Four users should queue: " + report);
+        assertEquals(report.getErrorRatePercent(), 0.0);
+    }
+
+    @Test
+    @Story("Closed Model")
+    @Description("A ramp against a service that fails fast beyond two flows finds its knee at two users")
+    public void testRampTreatsFailingFastAsKnee() {
+        Semaphore capacity = new Semaphore(2);
+        List<LoadScenario> scenarios = List.of(LoadScenario.of("fail-fast", () -> {
+            if (!capacity.tryAcquire()) {
+                throw new IllegalStateException("Over capacity");
+            }
+            try {
+                Thread.sleep(50);
+            } finally {
+                capacity.release();
+            }
+        }));
+
+        RampReport report = new ClosedModelRampRunner(stub.getBaseUrl(), scenarios, 4, Duration.ofSeconds(1), 10, 20).run();
+
+        assertEquals(report.getKneeUsers(), 2, report.toString());
+        List<RampReport.Step> steps = report.getSteps();
+        assertTrue(steps.get(2).getThroughput() < steps.get(1).getThroughput() * 1.1,
+                "Failed runs should not count as throughput: " + report);
+        assertTrue(steps.get(2).getP99Millis() >= 50, "Failed runs should stay out of the p99: " + report);
+        assertTrue(steps.get(2).getErrorRatePercent() > 0, report.toString());
+    }
+}
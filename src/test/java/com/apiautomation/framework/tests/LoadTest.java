@@ -0,0 +1,70 @@
+package com.apiautomation.framework.tests;
+
+import com.apiautomation.framework.config.ConfigManager;
+import com.apiautomation.framework.load.ClosedModelRampRunner;
+import com.apiautomation.framework.load.LoadReport;
+import com.apiautomation.framework.load.LoadScenario;
+import com.apiautomation.framework.load.OpenModelLoadRunner;
+import com.apiautomation.framework.load.RampReport;
+import com.apiautomation.framework.stub.StubApiServer;
+import io.qameta.allure.*;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Load runs of the {@code WorkingAPITest} flows, configured by {@code load.*}: the open-model run
+ * targets the local stub, the concurrency ramp {@code load.ramp.base.url} (default {@code base.url},
+ * or {@code stub} for the local stub). Not part of the default suite; run with {@code mvn test -Pload}.
+ */
+@Epic("API Testing Framework")
+@Feature("Load Testing")
+public class LoadTest {
+
+    private StubApiServer stub;
+
+    @BeforeClass
+    public void startStub() throws IOException {
+        stub = StubApiServer.start(ConfigManager.getIntProperty("load.stub.threads", 16));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    @Story("Open Model")
+    @Description("Replays the WorkingAPITest flows at load.rate arrivals per second for load.duration.seconds")
+    public void testWorkingApiFlowsUnderLoad() {
+        LoadReport report = OpenModelLoadRunner.fromConfig(stub.getBaseUrl(),
+                LoadScenario.fromTestMethods(WorkingAPITest.class, LoadRunnerTest.WORKING_API_FLOWS)).run();
+        Allure.addAttachment("Open-model load report", "text/plain", report.toString());
+
+        double maxErrorRate = Double.parseDouble(ConfigManager.getProperty("load.max.error.rate", "1").trim());
+        assertTrue(report.getErrorRatePercent() <= maxErrorRate,
+                String.format("Error rate %.2f%% exceeds %.2f%%:%n%s", report.getErrorRatePercent(), maxErrorRate, report));
+    }
+
+    @Test
+    @Story("Closed Model")
+    @Description("Ramps the WorkingAPITest flows from 1 to test.parallel.threads x load.ramp.factor users and reports the knee")
+    public void testWorkingApiFlowsConcurrencyRamp() {
+        List<LoadScenario> scenarios = LoadScenario.fromTestMethods(WorkingAPITest.class, LoadRunnerTest.WORKING_API_FLOWS);
+        String target = ClosedModelRampRunner.getConfiguredBaseUrl();
+        ClosedModelRampRunner runner = "stub".equalsIgnoreCase(target)
+                ? ClosedModelRampRunner.fromConfig(stub.getBaseUrl(), scenarios).withServerThreads(stub.getThreads())
+                : ClosedModelRampRunner.fromConfig(target, scenarios);
+        RampReport report = runner.run();
+        Allure.addAttachment("Concurrency ramp report", "text/plain", report.toString());
+
+        double maxErrorRate = Double.parseDouble(ConfigManager.getProperty("load.max.error.rate", "1").trim());
+        assertTrue(report.getErrorRatePercent() <= maxErrorRate,
+                String.format("Error rate %.2f%% exceeds %.2f%%:%n%s", report.getErrorRatePercent(), maxErrorRate, report));
+    }
+}
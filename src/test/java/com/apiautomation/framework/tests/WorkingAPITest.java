@@ -1,6 +1,7 @@
 package com.apiautomation.framework.tests;
 
 import com.apiautomation.framework.BaseTest;
+import com.apiautomation.framework.utils.ApiUtils;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
@@ -14,7 +15,7 @@ public class WorkingAPITest extends BaseTest {
     @Story("Get Users")
     @Description("Test GET /users endpoint to retrieve all users")
     public void testGetUsers() {
-        Response response = io.restassured.RestAssured.given()
+        Response response = given()
                 .when()
                 .get("/users")
                 .then()
@@ -27,10 +28,7 @@ public class WorkingAPITest extends BaseTest {
         logResponseDetails(response, "testGetUsers");
         
         // Verify response structure
-        String responseBody = response.getBody().asString();
-        assertTrue(responseBody.contains("id"), "Response should contain 'id' field");
-        assertTrue(responseBody.contains("name"), "Response should contain 'name' field");
-        assertTrue(responseBody.contains("email"), "Response should contain 'email' field");
+        ApiUtils.verifyJsonFieldsPresent(response, 0, "id", "name", "email");
         
         logger.info("✅ GET /users test passed!");
     }
@@ -39,7 +37,7 @@ public class WorkingAPITest extends BaseTest {
     @Story("Get Specific User")
     @Description("Test GET /users/{id} endpoint to retrieve a specific user")
     public void testGetSpecificUser() {
-        Response response = io.restassured.RestAssured.given()
+        Response response = given()
                 .when()
                 .get("/users/1")
                 .then()
@@ -56,9 +54,7 @@ public class WorkingAPITest extends BaseTest {
         logger.info("Response body: {}", responseBody);
         
         // Use more flexible JSON validation
-        assertTrue(responseBody.contains("id"), "Response should contain 'id' field");
-        assertTrue(responseBody.contains("name"), "Response should contain 'name' field");
-        assertTrue(responseBody.contains("email"), "Response should contain 'email' field");
+        ApiUtils.verifyJsonFieldsPresent(response, 0, "id", "name", "email");
         
         // Check if it's a valid JSON structure
         assertTrue(responseBody.startsWith("{"), "Response should start with {");
@@ -71,7 +67,7 @@ public class WorkingAPITest extends BaseTest {
     @Story("Get Posts")
     @Description("Test GET /posts endpoint to retrieve all posts")
     public void testGetPosts() {
-        Response response = io.restassured.RestAssured.given()
+        Response response = given()
                 .when()
                 .get("/posts")
                 .then()
@@ -84,10 +80,7 @@ public class WorkingAPITest extends BaseTest {
         logResponseDetails(response, "testGetPosts");
         
         // Verify response structure
-        String responseBody = response.getBody().asString();
-        assertTrue(responseBody.contains("id"), "Response should contain 'id' field");
-        assertTrue(responseBody.contains("title"), "Response should contain 'title' field");
-        assertTrue(responseBody.contains("body"), "Response should contain 'body' field");
+        ApiUtils.verifyJsonFieldsPresent(response, 0, "id", "title", "body");
         
         logger.info("✅ GET /posts test passed!");
     }
@@ -102,7 +95,7 @@ public class WorkingAPITest extends BaseTest {
                 "    \"userId\": 1\n" +
                 "}";
 
-        Response response = io.restassured.RestAssured.given()
+        Response response = given()
                 .contentType("application/json")
                 .body(postData)
                 .when()
@@ -117,10 +110,8 @@ public class WorkingAPITest extends BaseTest {
         logResponseDetails(response, "testCreatePost");
         
         // Verify response structure
-        String responseBody = response.getBody().asString();
-        assertTrue(responseBody.contains("id"), "Response should contain 'id' field");
-        assertTrue(responseBody.contains("Test Post"), "Response should contain the posted title");
-        assertTrue(responseBody.contains("This is a test post"), "Response should contain the posted body");
+        ApiUtils.verifyJsonFieldsPresent(response, 0, "id");
+        ApiUtils.verifyBodyContains(response, "Test Post", "This is a test post");
         
         logger.info("✅ POST /posts test passed!");
     }
@@ -136,7 +127,7 @@ public class WorkingAPITest extends BaseTest {
                 "    \"userId\": 1\n" +
                 "}";
 
-        Response response = io.restassured.RestAssured.given()
+        Response response = given()
                 .contentType("application/json")
                 .body(updateData)
                 .when()
@@ -155,9 +146,8 @@ public class WorkingAPITest extends BaseTest {
         logger.info("Update response body: {}", responseBody);
         
         // Use more flexible JSON validation
-        assertTrue(responseBody.contains("id"), "Response should contain 'id' field");
-        assertTrue(responseBody.contains("Updated Post"), "Response should contain the updated title");
-        assertTrue(responseBody.contains("This post has been updated"), "Response should contain the updated body");
+        ApiUtils.verifyJsonFieldsPresent(response, 0, "id");
+        ApiUtils.verifyBodyContains(response, "Updated Post", "This post has been updated");
         
         // Check if it's a valid JSON structure
         assertTrue(responseBody.startsWith("{"), "Response should start with {");
@@ -170,7 +160,7 @@ public class WorkingAPITest extends BaseTest {
     @Story("Delete Post")
     @Description("Test DELETE /posts/{id} endpoint to delete a post")
     public void testDeletePost() {
-        Response response = io.restassured.RestAssured.given()
+        Response response = given()
                 .when()
                 .delete("/posts/1")
                 .then()
@@ -1,13 +1,23 @@
 package com.apiautomation.framework.utils;
 
-import com.jayway.jsonpath.JsonPath;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.jsonpath.PathNotFoundException;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Utility class for common API operations and assertions
@@ -19,7 +29,7 @@ public class ApiUtils {
     @Step("Verify JSON response contains field")
     public static void verifyJsonFieldExists(Response response, String jsonPath, String fieldName) {
         try {
-            Object value = JsonPath.read(response.getBody().asString(), jsonPath);
+            Object value = readJsonPath(response, jsonPath);
             if (value == null) {
                 throw new AssertionError("Field '" + fieldName + "' not found at path: " + jsonPath);
             }
@@ -32,7 +42,7 @@ public class ApiUtils {
     @Step("Verify JSON response field value")
     public static void verifyJsonFieldValue(Response response, String jsonPath, Object expectedValue, String fieldName) {
         try {
-            Object actualValue = JsonPath.read(response.getBody().asString(), jsonPath);
+            Object actualValue = readJsonPath(response, jsonPath);
             if (!expectedValue.equals(actualValue)) {
                 throw new AssertionError(String.format("Field '%s' value mismatch. Expected: %s, Actual: %s", 
                     fieldName, expectedValue, actualValue));
@@ -46,34 +56,190 @@ public class ApiUtils {
     @Step("Verify JSON array size")
     public static void verifyJsonArraySize(Response response, String jsonPath, int expectedSize, String arrayName) {
         try {
-            List<Object> array = JsonPath.read(response.getBody().asString(), jsonPath);
-            if (array.size() != expectedSize) {
+            int actualSize = countJsonArrayElements(response, jsonPath);
+            if (actualSize != expectedSize) {
                 throw new AssertionError(String.format("Array '%s' size mismatch. Expected: %d, Actual: %d", 
-                    arrayName, expectedSize, array.size()));
+                    arrayName, expectedSize, actualSize));
             }
-            logger.info("✅ Array '{}' size verified: {}", arrayName, array.size());
+            logger.info("✅ Array '{}' size verified: {}", arrayName, actualSize);
         } catch (Exception e) {
             throw new AssertionError("Failed to verify array '" + arrayName + "' size at path '" + jsonPath + "': " + e.getMessage());
         }
     }
     
+    /**
+     * Counts the elements of the array at the given path. Definite paths are counted on the token
+     * stream without building the array; other expressions go through the JSON path engine.
+     */
+    public static int countJsonArrayElements(Response response, String jsonPath) {
+        StreamingJsonPath path = StreamingJsonPath.parse(jsonPath);
+        if (path == null) {
+            requireDocument(response, jsonPath);
+            List<Object> array = ResponseDocumentCache.get(response).read(JsonPathCache.compile(jsonPath));
+            return array.size();
+        }
+        
+        try {
+            int count = JsonArrayStreams.count(JsonSupport.createParser(response), path);
+            if (count < 0) {
+                throw new IllegalArgumentException("No array found at path: " + jsonPath);
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read array at path: " + jsonPath, e);
+        }
+    }
+    
+    @Step("Verify every JSON array element")
+    public static void verifyEachJsonArrayElement(Response response, String jsonPath, String description, 
+                                                  Predicate<JsonNode> predicate) {
+        StreamingJsonPath path = StreamingJsonPath.parse(jsonPath);
+        if (path == null) {
+            throw new IllegalArgumentException("Element validation needs a definite JSON path, got: " + jsonPath);
+        }
+        
+        JsonArrayStreams.Validation validation;
+        try {
+            validation = JsonArrayStreams.validate(JsonSupport.createParser(response), path, predicate);
+        } catch (IOException e) {
+            throw new AssertionError("Failed to read array at path '" + jsonPath + "': " + e.getMessage(), e);
+        }
+        
+        if (validation == null) {
+            throw new AssertionError("No array found at path: " + jsonPath);
+        }
+        if (!validation.isValid()) {
+            throw new AssertionError(String.format("%d of %d elements at '%s' do not satisfy '%s'. Failing indices: %s", 
+                validation.getFailureCount(), validation.getElementCount(), jsonPath, description, 
+                validation.getFailedIndices()));
+        }
+        logger.info("✅ All {} elements at '{}' satisfy '{}'", validation.getElementCount(), jsonPath, description);
+    }
+    
+    @Step("Verify JSON expectations")
+    public static void verifyJson(Response response, JsonExpectations expectations) {
+        List<String> failures = ResponseBodies.isSpilled(response)
+            ? expectations.evaluate(new SpilledBodySource(response))
+            : expectations.evaluate(ResponseDocumentCache.get(response));
+        if (!failures.isEmpty()) {
+            throw new AssertionError(String.format("%d of %d JSON expectations failed:%n  - %s",
+                failures.size(), expectations.size(), String.join(System.lineSeparator() + "  - ", failures)));
+        }
+        logger.info("✅ {} JSON expectations verified", expectations.size());
+    }
+    
     @Step("Verify JSON response structure")
     public static void verifyJsonStructure(Response response, String... requiredFields) {
-        String responseBody = response.getBody().asString();
+        verifyJsonFieldsPresent(response, JsonFieldScanner.ANY_DEPTH, requiredFields);
+    }
+    
+    @Step("Verify JSON response contains fields")
+    public static void verifyJsonFieldsPresent(Response response, int depth, String... requiredFields) {
+        Set<String> missing;
+        try {
+            missing = JsonFieldScanner.findMissing(JsonSupport.createParser(response), depth, Arrays.asList(requiredFields));
+        } catch (IOException e) {
+            throw new AssertionError("Failed to scan response for required fields: " + e.getMessage(), e);
+        }
         
-        for (String field : requiredFields) {
-            if (!responseBody.contains(field)) {
-                throw new AssertionError("Required field '" + field + "' not found in response");
-            }
+        if (!missing.isEmpty()) {
+            throw new AssertionError("Required fields " + missing + " not found in response");
         }
         
         logger.info("✅ JSON structure verified with {} required fields", requiredFields.length);
     }
     
+    @Step("Verify response against JSON schema")
+    public static void verifyJsonSchema(Response response, String schemaName) {
+        JsonNode body;
+        try {
+            body = JsonSupport.mapper().readTree(JsonSupport.createParser(response));
+        } catch (IOException e) {
+            throw new AssertionError("Response body is not valid JSON: " + e.getMessage(), e);
+        }
+        
+        List<String> failures = body.isArray()
+            ? SchemaRegistry.validateEach(schemaName, body)
+            : SchemaRegistry.validate(schemaName, body);
+        if (!failures.isEmpty()) {
+            throw new AssertionError(String.format("Response does not match schema '%s':%n  - %s", 
+                schemaName, String.join(System.lineSeparator() + "  - ", failures)));
+        }
+        logger.info("✅ Response matches schema '{}' ({})", schemaName, SchemaRegistry.getTimings().get(schemaName));
+    }
+    
+    @Step("Verify response body contains text")
+    public static void verifyBodyContains(Response response, String... literals) {
+        verifyBodyContains(response, MultiLiteralMatcher.of(literals));
+    }
+    
+    /**
+     * Checks a precompiled literal set against the raw body bytes in a single pass; reuse the
+     * matcher when the same literals are checked on many responses.
+     */
+    @Step("Verify response body contains text")
+    public static void verifyBodyContains(Response response, MultiLiteralMatcher matcher) {
+        Set<String> missing = matcher.findMissing(ResponseBodies.buffer(response));
+        if (!missing.isEmpty()) {
+            throw new AssertionError("Response body does not contain " + missing);
+        }
+        logger.info("✅ Response body contains {} expected literals", matcher.getLiterals().size());
+    }
+    
+    @Step("Verify response body equals expected text")
+    public static void verifyBodyEquals(Response response, String expectedBody) {
+        if (!ByteMatcher.equalsUtf8(ResponseBodies.buffer(response), expectedBody)) {
+            throw new AssertionError(String.format("Response body mismatch. Expected: %s, Actual: %s", 
+                expectedBody, ResponseBodies.preview(response)));
+        }
+        logger.info("✅ Response body verified");
+    }
+    
+    /**
+     * Compares the response with a recorded golden snapshot, recording it on first use.
+     * Ignored fields (e.g. timestamps or generated ids) are excluded from the comparison.
+     */
+    @Step("Verify response matches snapshot")
+    public static void verifyMatchesSnapshot(Response response, String snapshotName, String... ignoredFields) {
+        List<String> differences = SnapshotStore.compare(response, snapshotName, Arrays.asList(ignoredFields));
+        if (!differences.isEmpty()) {
+            throw new AssertionError(String.format("Response differs from snapshot '%s':%n  - %s", 
+                snapshotName, String.join(System.lineSeparator() + "  - ", differences)));
+        }
+        logger.info("✅ Response matches snapshot '{}'", snapshotName);
+    }
+    
     @Step("Extract value from JSON response")
     public static <T> T extractJsonValue(Response response, String jsonPath, Class<T> type) {
+        return extractJsonValue(response, jsonPath, JsonSupport.mapper().constructType(type));
+    }
+    
+    @Step("Extract value from JSON response")
+    public static <T> T extractJsonValue(Response response, String jsonPath, TypeReference<T> type) {
+        return extractJsonValue(response, jsonPath, JsonSupport.mapper().constructType(type));
+    }
+    
+    /**
+     * Binds the value at a JSON path straight to the requested type. Definite paths are resolved on
+     * the token stream and only the selected subtree is deserialized; other expressions are read
+     * from the cached document and converted.
+     */
+    private static <T> T extractJsonValue(Response response, String jsonPath, JavaType type) {
         try {
-            T value = JsonPath.read(response.getBody().asString(), jsonPath);
+            T value;
+            StreamingJsonPath path = StreamingJsonPath.parse(jsonPath);
+            if (path != null) {
+                try (JsonParser parser = JsonSupport.createParser(response)) {
+                    if (!path.seek(parser)) {
+                        throw new PathNotFoundException("No results for path: " + jsonPath);
+                    }
+                    value = JsonSupport.mapper().readValue(parser, type);
+                }
+            } else {
+                requireDocument(response, jsonPath);
+                Object raw = ResponseDocumentCache.get(response).read(JsonPathCache.compile(jsonPath));
+                value = JsonSupport.mapper().convertValue(raw, type);
+            }
             logger.info("✅ Extracted value from '{}': {}", jsonPath, value);
             return value;
         } catch (Exception e) {
@@ -82,6 +248,66 @@ public class ApiUtils {
         }
     }
     
+    /**
+     * Reads the value at a JSON path. Spilled bodies are never parsed into a document, so their
+     * paths are resolved on the token stream and must be definite.
+     */
+    private static Object readJsonPath(Response response, String jsonPath) {
+        if (!ResponseBodies.isSpilled(response)) {
+            return ResponseDocumentCache.get(response).read(JsonPathCache.compile(jsonPath));
+        }
+        return new SpilledBodySource(response).read(jsonPath);
+    }
+    
+    private static void requireDocument(Response response, String jsonPath) {
+        if (ResponseBodies.isSpilled(response)) {
+            throw new IllegalArgumentException("Path '" + jsonPath + "' needs the whole JSON document, which is not "
+                + "loaded for spilled responses; use a definite path such as $.items[0].id");
+        }
+    }
+    
+    /**
+     * Resolves definite paths on the token stream of a spilled body, binding only the selected value.
+     */
+    private static final class SpilledBodySource implements JsonExpectations.Source {
+        private final Response response;
+        
+        private SpilledBodySource(Response response) {
+            this.response = response;
+        }
+        
+        @Override
+        public Object read(String jsonPath) {
+            try (JsonParser parser = seek(jsonPath)) {
+                return JsonSupport.mapper().readValue(parser, Object.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read spilled body at path: " + jsonPath, e);
+            }
+        }
+        
+        @Override
+        public int arraySize(String jsonPath) {
+            try (JsonParser parser = seek(jsonPath)) {
+                return parser.currentToken() == JsonToken.START_ARRAY ? JsonArrayStreams.countElements(parser) : -1;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read spilled body at path: " + jsonPath, e);
+            }
+        }
+        
+        private JsonParser seek(String jsonPath) throws IOException {
+            StreamingJsonPath path = StreamingJsonPath.parse(jsonPath);
+            if (path == null) {
+                requireDocument(response, jsonPath);
+            }
+            JsonParser parser = JsonSupport.createParser(response);
+            if (!path.seek(parser)) {
+                parser.close();
+                throw new PathNotFoundException("No results for path: " + jsonPath);
+            }
+            return parser;
+        }
+    }
+    
     @Step("Verify response headers")
     public static void verifyResponseHeaders(Response response, Map<String, String> expectedHeaders) {
         for (Map.Entry<String, String> entry : expectedHeaders.entrySet()) {
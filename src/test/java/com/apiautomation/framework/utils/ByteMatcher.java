@@ -0,0 +1,99 @@
+package com.apiautomation.framework.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Search and comparison primitives that work on raw UTF-8 bytes, so body assertions do not need
+ * to decode the payload into a {@link String}.
+ *
+ * <p>All methods use absolute reads and leave the buffer's position and limit untouched; they
+ * work the same on heap buffers and on memory-mapped files.
+ */
+public final class ByteMatcher {
+
+    private ByteMatcher() {
+    }
+
+    public static int indexOf(byte[] haystack, String needle) {
+        return indexOf(ByteBuffer.wrap(haystack), needle.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int indexOf(ByteBuffer haystack, String needle) {
+        return indexOf(haystack, needle.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Finds the first occurrence of the needle between the buffer's position and limit using
+     * Boyer-Moore-Horspool.
+     *
+     * @return the absolute index of the first match, or -1 if there is none
+     */
+    public static int indexOf(ByteBuffer haystack, byte[] needle) {
+        int start = haystack.position();
+        int end = haystack.limit();
+        int length = needle.length;
+        if (length == 0) {
+            return start;
+        }
+        if (length > end - start) {
+            return -1;
+        }
+
+        int[] shift = new int[256];
+        Arrays.fill(shift, length);
+        for (int i = 0; i < length - 1; i++) {
+            shift[needle[i] & 0xFF] = length - 1 - i;
+        }
+
+        int last = length - 1;
+        for (int i = start; i <= end - length; i += shift[haystack.get(i + last) & 0xFF]) {
+            int j = last;
+            while (j >= 0 && haystack.get(i + j) == needle[j]) {
+                j--;
+            }
+            if (j < 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether the bytes between the buffer's position and limit are exactly the UTF-8
+     * encoding of the expected text. The text is encoded on the fly, without allocating.
+     */
+    public static boolean equalsUtf8(ByteBuffer bytes, String expected) {
+        int index = bytes.position();
+        int end = bytes.limit();
+        for (int i = 0; i < expected.length(); i++) {
+            int codePoint = expected.codePointAt(i);
+            if (Character.isSupplementaryCodePoint(codePoint)) {
+                i++;
+            }
+
+            if (codePoint < 0x80) {
+                if (index >= end || bytes.get(index++) != (byte) codePoint) {
+                    return false;
+                }
+                continue;
+            }
+
+            int length = codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (end - index < length) {
+                return false;
+            }
+            int lead = length == 2 ? 0xC0 : length == 3 ? 0xE0 : 0xF0;
+            if (bytes.get(index++) != (byte) (lead | (codePoint >> (6 * (length - 1))))) {
+                return false;
+            }
+            for (int shift = 6 * (length - 2); shift >= 0; shift -= 6) {
+                if (bytes.get(index++) != (byte) (0x80 | ((codePoint >> shift) & 0x3F))) {
+                    return false;
+                }
+            }
+        }
+        return index == end;
+    }
+}
@@ -0,0 +1,114 @@
+package com.apiautomation.framework.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Streaming operations on JSON arrays that never materialize the whole array.
+ *
+ * <p>Counting skips over each element's tokens; validation binds one element at a time to a
+ * {@link JsonNode}, tests it and lets it go, so memory stays flat no matter how large the array is.
+ */
+public final class JsonArrayStreams {
+
+    /** Number of failing element indices kept for reporting. */
+    private static final int MAX_REPORTED_FAILURES = 20;
+
+    private JsonArrayStreams() {
+    }
+
+    /**
+     * Counts the elements of the array at the given path.
+     *
+     * @return the element count, or -1 if there is no array at the path
+     */
+    public static int count(JsonParser parser, StreamingJsonPath path) throws IOException {
+        try (JsonParser p = parser) {
+            if (!path.seek(p) || p.currentToken() != JsonToken.START_ARRAY) {
+                return -1;
+            }
+            return countElements(p);
+        }
+    }
+
+    /**
+     * Counts the elements of the array whose {@code START_ARRAY} token the parser is positioned on,
+     * leaving the parser on its {@code END_ARRAY} token.
+     */
+    public static int countElements(JsonParser parser) throws IOException {
+        int count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Tests every element of the array at the given path against the predicate.
+     *
+     * @return the validation outcome, or {@code null} if there is no array at the path
+     */
+    public static Validation validate(JsonParser parser, StreamingJsonPath path, Predicate<JsonNode> predicate) throws IOException {
+        ObjectMapper mapper = JsonSupport.mapper();
+        try (JsonParser p = parser) {
+            if (!path.seek(p) || p.currentToken() != JsonToken.START_ARRAY) {
+                return null;
+            }
+            Validation validation = new Validation();
+            JsonToken token;
+            while ((token = p.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                JsonNode element = mapper.readTree(p);
+                if (!predicate.test(element)) {
+                    validation.fail(validation.elementCount);
+                }
+                validation.elementCount++;
+            }
+            return validation;
+        }
+    }
+
+    /**
+     * Outcome of a streaming element validation.
+     */
+    public static final class Validation {
+        private int elementCount;
+        private int failureCount;
+        private final List<Integer> failedIndices = new ArrayList<>();
+
+        private void fail(int index) {
+            failureCount++;
+            if (failedIndices.size() < MAX_REPORTED_FAILURES) {
+                failedIndices.add(index);
+            }
+        }
+
+        public int getElementCount() {
+            return elementCount;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * Indices of the first failing elements, capped to keep reports small.
+         */
+        public List<Integer> getFailedIndices() {
+            return Collections.unmodifiableList(failedIndices);
+        }
+
+        public boolean isValid() {
+            return failureCount == 0;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.apiautomation.framework.utils;
+
+import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.ReadContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A set of JSON path expectations that are checked together against one response.
+ *
+ * <pre>
+ * ApiUtils.verifyJson(response, JsonExpectations.create()
+ *         .exists("$.id")
+ *         .value("$.name", "Leanne Graham")
+ *         .arraySize("$.tags", 3));
+ * </pre>
+ *
+ * <p>All expectations are evaluated against the same parsed document with compiled paths, and
+ * every mismatch is collected instead of stopping at the first one. Spilled responses are checked
+ * on the token stream instead, which limits them to definite paths.
+ */
+public final class JsonExpectations {
+
+    private enum Kind { EXISTS, VALUE, ARRAY_SIZE }
+
+    private final List<Expectation> expectations = new ArrayList<>();
+
+    private JsonExpectations() {
+    }
+
+    public static JsonExpectations create() {
+        return new JsonExpectations();
+    }
+
+    /**
+     * Expects a non-null value at the given path.
+     */
+    public JsonExpectations exists(String jsonPath) {
+        expectations.add(new Expectation(Kind.EXISTS, jsonPath, null));
+        return this;
+    }
+
+    /**
+     * Expects the value at the given path to equal the expected value.
+     */
+    public JsonExpectations value(String jsonPath, Object expectedValue) {
+        expectations.add(new Expectation(Kind.VALUE, jsonPath, expectedValue));
+        return this;
+    }
+
+    /**
+     * Expects each path of the map to hold the mapped value.
+     */
+    public JsonExpectations values(Map<String, ?> expectedValues) {
+        expectedValues.forEach(this::value);
+        return this;
+    }
+
+    /**
+     * Expects an array of the given size at the given path.
+     */
+    public JsonExpectations arraySize(String jsonPath, int expectedSize) {
+        expectations.add(new Expectation(Kind.ARRAY_SIZE, jsonPath, expectedSize));
+        return this;
+    }
+
+    public int size() {
+        return expectations.size();
+    }
+
+    /**
+     * Evaluates every expectation against the document.
+     *
+     * @return a description of each failed expectation; empty when all of them hold
+     */
+    public List<String> evaluate(ReadContext document) {
+        return evaluate(new Source() {
+            @Override
+            public Object read(String jsonPath) {
+                return document.read(JsonPathCache.compile(jsonPath));
+            }
+
+            @Override
+            public int arraySize(String jsonPath) {
+                Object value = read(jsonPath);
+                return value instanceof List ? ((List<?>) value).size() : -1;
+            }
+        });
+    }
+
+    /**
+     * Evaluates every expectation against paths resolved by the given source.
+     */
+    List<String> evaluate(Source source) {
+        List<String> failures = new ArrayList<>();
+        for (Expectation expectation : expectations) {
+            String failure = expectation.check(source);
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+        return failures.isEmpty() ? Collections.emptyList() : failures;
+    }
+
+    /**
+     * Resolves JSON paths for {@link #evaluate(Source)}, either on a parsed document or on the token stream.
+     */
+    interface Source {
+        /**
+         * @throws PathNotFoundException if nothing exists at the path
+         */
+        Object read(String jsonPath);
+
+        /**
+         * @return the size of the array at the path, or -1 if the value there is not an array
+         * @throws PathNotFoundException if nothing exists at the path
+         */
+        int arraySize(String jsonPath);
+    }
+
+    private static final class Expectation {
+        private final Kind kind;
+        private final String jsonPath;
+        private final Object expected;
+
+        private Expectation(Kind kind, String jsonPath, Object expected) {
+            this.kind = kind;
+            this.jsonPath = jsonPath;
+            this.expected = expected;
+        }
+
+        private String check(Source source) {
+            Object actual;
+            try {
+                actual = kind == Kind.ARRAY_SIZE ? source.arraySize(jsonPath) : source.read(jsonPath);
+            } catch (PathNotFoundException e) {
+                return String.format("'%s' not found", jsonPath);
+            } catch (RuntimeException e) {
+                return String.format("'%s' could not be evaluated: %s", jsonPath, e.getMessage());
+            }
+
+            switch (kind) {
+                case EXISTS:
+                    return actual == null ? String.format("'%s' is null", jsonPath) : null;
+                case VALUE:
+                    return Objects.equals(expected, actual) ? null
+                            : String.format("'%s' value mismatch. Expected: %s, Actual: %s", jsonPath, expected, actual);
+                case ARRAY_SIZE:
+                    int actualSize = (int) actual;
+                    if (actualSize < 0) {
+                        return String.format("'%s' is not an array", jsonPath);
+                    }
+                    return actualSize == (int) expected ? null
+                            : String.format("'%s' size mismatch. Expected: %s, Actual: %d", jsonPath, expected, actualSize);
+                default:
+                    throw new IllegalStateException("Unknown expectation kind: " + kind);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.apiautomation.framework.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Single-pass check that a JSON document contains a set of field names.
+ *
+ * <p>The scanner walks the token stream once and stops as soon as every required field has been
+ * seen, so the cost is at most one pass over the body regardless of how many fields are checked.
+ * Only object keys are matched, never string values.
+ *
+ * <p>A required field is either a plain name such as {@code email}, matched at any object depth,
+ * or a dotted path such as {@code address.geo.lat}, matched against the chain of enclosing object
+ * keys. Array levels are transparent in both cases, so {@code address.city} matches every element
+ * of a list of users as well as a single user.
+ */
+public final class JsonFieldScanner {
+
+    /** Depth value that matches plain field names at any nesting level. */
+    public static final int ANY_DEPTH = -1;
+
+    private JsonFieldScanner() {
+    }
+
+    /**
+     * Scans the document and returns the required fields that were not found.
+     *
+     * @param parser         parser positioned before the first token; it is closed by this method
+     * @param depth          object depth at which plain names must appear (0 = top-level object or
+     *                       elements of a top-level array), or {@link #ANY_DEPTH}
+     * @param requiredFields field names or dotted paths to look for
+     * @return the missing fields in the order they were requested; empty when all are present
+     */
+    public static Set<String> findMissing(JsonParser parser, int depth, Collection<String> requiredFields) throws IOException {
+        Set<String> remaining = new LinkedHashSet<>(requiredFields);
+        boolean matchPaths = remaining.stream().anyMatch(field -> field.indexOf('.') >= 0);
+        int objectDepth = -1;
+
+        try (JsonParser p = parser) {
+            JsonToken token;
+            while (!remaining.isEmpty() && (token = p.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    objectDepth++;
+                } else if (token == JsonToken.END_OBJECT) {
+                    objectDepth--;
+                } else if (token == JsonToken.FIELD_NAME) {
+                    String name = p.getCurrentName();
+                    if (depth == ANY_DEPTH || depth == objectDepth) {
+                        remaining.remove(name);
+                    }
+                    if (matchPaths) {
+                        remaining.remove(objectPath(p.getParsingContext()));
+                    }
+                }
+            }
+        }
+        return remaining;
+    }
+
+    private static String objectPath(JsonStreamContext context) {
+        Deque<String> names = new ArrayDeque<>();
+        for (JsonStreamContext current = context; current != null; current = current.getParent()) {
+            if (current.inObject() && current.getCurrentName() != null) {
+                names.addFirst(current.getCurrentName());
+            }
+        }
+        return String.join(".", names);
+    }
+}
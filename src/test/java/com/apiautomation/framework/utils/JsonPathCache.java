@@ -0,0 +1,121 @@
+package com.apiautomation.framework.utils;
+
+import com.apiautomation.framework.config.ConfigManager;
+import com.jayway.jsonpath.JsonPath;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe, size-bounded cache of compiled JSON path expressions.
+ *
+ * <p>Lookups are lock-free reads on a {@link ConcurrentHashMap}. When the cache grows past
+ * its capacity a clock-style sweep evicts entries that have not been used since the hand last
+ * passed them, so frequently used expressions survive while one-off paths are dropped. New
+ * entries start referenced, and the hand resumes where the previous sweep stopped, so a path
+ * just compiled gets a full turn of the clock to be used again.
+ */
+public final class JsonPathCache {
+
+    private static final int DEFAULT_MAX_SIZE = 512;
+    private static final int MAX_SIZE = Math.max(1, ConfigManager.getIntProperty("jsonpath.cache.size", DEFAULT_MAX_SIZE));
+
+    private static final Map<String, Entry> paths = new ConcurrentHashMap<>();
+    private static final AtomicBoolean evicting = new AtomicBoolean();
+    // Clock hand, only moved by the thread holding the evicting flag
+    private static volatile Iterator<Entry> hand;
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+
+    private JsonPathCache() {
+    }
+
+    /**
+     * Returns the compiled form of the given expression, compiling it on first use.
+     */
+    public static JsonPath compile(String expression) {
+        Entry entry = paths.get(expression);
+        if (entry != null) {
+            hits.increment();
+            entry.referenced = true;
+            return entry.path;
+        }
+
+        misses.increment();
+        entry = paths.computeIfAbsent(expression, key -> new Entry(JsonPath.compile(key)));
+        if (paths.size() > MAX_SIZE) {
+            evict();
+        }
+        return entry.path;
+    }
+
+    private static void evict() {
+        // Only one thread sweeps at a time; others carry on and may briefly overshoot the bound
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Iterator<Entry> iterator = hand;
+            while (paths.size() > MAX_SIZE) {
+                if (iterator == null || !iterator.hasNext()) {
+                    iterator = paths.values().iterator();
+                }
+                Entry entry = iterator.next();
+                if (entry.referenced) {
+                    entry.referenced = false;
+                } else {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+            hand = iterator;
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    public static long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public static int size() {
+        return paths.size();
+    }
+
+    public static int getMaxSize() {
+        return MAX_SIZE;
+    }
+
+    /**
+     * Drops every cached expression and resets the counters.
+     */
+    public static void clear() {
+        paths.clear();
+        hand = null;
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private static final class Entry {
+        private final JsonPath path;
+        private volatile boolean referenced;
+
+        private Entry(JsonPath path) {
+            this.path = path;
+            this.referenced = true;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.apiautomation.framework.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+
+/**
+ * Shared, preconfigured Jackson instances used by the framework's JSON utilities.
+ *
+ * <p>{@link ObjectMapper} and {@link JsonFactory} are thread-safe once configured, so a single
+ * instance is reused everywhere instead of paying the construction cost per call.
+ */
+public final class JsonSupport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private JsonSupport() {
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public static JsonFactory factory() {
+        return MAPPER.getFactory();
+    }
+
+    /**
+     * Opens a streaming parser over the raw response body without decoding it to a String.
+     * Spilled bodies are parsed straight from their memory-mapped file.
+     */
+    public static JsonParser createParser(Response response) throws IOException {
+        if (ResponseBodies.isManaged(response)) {
+            return factory().createParser(ResponseBodies.inputStream(response));
+        }
+        return factory().createParser(response.getBody().asByteArray());
+    }
+}
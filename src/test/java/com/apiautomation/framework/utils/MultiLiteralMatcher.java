@@ -0,0 +1,154 @@
+package com.apiautomation.framework.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Aho-Corasick automaton that finds a whole set of literals in one pass over raw UTF-8 bytes.
+ *
+ * <p>The automaton is compiled into a dense byte-transition table once and is immutable
+ * afterwards, so a single instance can be shared between threads and reused across responses.
+ */
+public final class MultiLiteralMatcher {
+
+    private static final int ALPHABET = 256;
+
+    private final List<String> literals;
+    private final int[][] transitions;
+    private final BitSet[] outputs;
+
+    private MultiLiteralMatcher(List<String> literals, int[][] transitions, BitSet[] outputs) {
+        this.literals = literals;
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    public static MultiLiteralMatcher of(String... literals) {
+        return of(Arrays.asList(literals));
+    }
+
+    public static MultiLiteralMatcher of(List<String> literals) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(literals));
+
+        // Build the trie; state 0 is the root
+        List<int[]> trie = new ArrayList<>();
+        List<BitSet> outputs = new ArrayList<>();
+        trie.add(newState());
+        outputs.add(new BitSet());
+        for (int index = 0; index < distinct.size(); index++) {
+            int state = 0;
+            for (byte b : distinct.get(index).getBytes(StandardCharsets.UTF_8)) {
+                int next = trie.get(state)[b & 0xFF];
+                if (next < 0) {
+                    next = trie.size();
+                    trie.get(state)[b & 0xFF] = next;
+                    trie.add(newState());
+                    outputs.add(new BitSet());
+                }
+                state = next;
+            }
+            outputs.get(state).set(index);
+        }
+
+        // Breadth-first pass turning the trie into a complete DFA using failure links
+        int[] failure = new int[trie.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+        int[] root = trie.get(0);
+        for (int b = 0; b < ALPHABET; b++) {
+            if (root[b] < 0) {
+                root[b] = 0;
+            } else {
+                queue.add(root[b]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs.get(state).or(outputs.get(failure[state]));
+            int[] row = trie.get(state);
+            for (int b = 0; b < ALPHABET; b++) {
+                int next = row[b];
+                if (next < 0) {
+                    row[b] = trie.get(failure[state])[b];
+                } else {
+                    failure[next] = trie.get(failure[state])[b];
+                    queue.add(next);
+                }
+            }
+        }
+
+        BitSet[] compactOutputs = new BitSet[outputs.size()];
+        for (int state = 0; state < compactOutputs.length; state++) {
+            compactOutputs[state] = outputs.get(state).isEmpty() ? null : outputs.get(state);
+        }
+        return new MultiLiteralMatcher(Collections.unmodifiableList(distinct),
+                trie.toArray(new int[0][]), compactOutputs);
+    }
+
+    private static int[] newState() {
+        int[] row = new int[ALPHABET];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    public List<String> getLiterals() {
+        return literals;
+    }
+
+    /**
+     * Scans the bytes between the buffer's position and limit, stopping early once every literal
+     * has been seen.
+     *
+     * @return the literals that occur at least once
+     */
+    public Set<String> findAll(ByteBuffer bytes) {
+        BitSet found = scan(bytes);
+        Set<String> result = new LinkedHashSet<>();
+        for (int index = found.nextSetBit(0); index >= 0; index = found.nextSetBit(index + 1)) {
+            result.add(literals.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * @return the literals that do not occur in the bytes, in declaration order
+     */
+    public Set<String> findMissing(ByteBuffer bytes) {
+        BitSet found = scan(bytes);
+        Set<String> missing = new LinkedHashSet<>();
+        for (int index = found.nextClearBit(0); index < literals.size(); index = found.nextClearBit(index + 1)) {
+            missing.add(literals.get(index));
+        }
+        return missing;
+    }
+
+    private BitSet scan(ByteBuffer bytes) {
+        BitSet found = new BitSet(literals.size());
+        int remaining = literals.size();
+        if (outputs[0] != null) {
+            // The empty literal matches everywhere
+            found.or(outputs[0]);
+            remaining = literals.size() - found.cardinality();
+        }
+
+        int state = 0;
+        for (int i = bytes.position(), end = bytes.limit(); i < end && remaining > 0; i++) {
+            state = transitions[state][bytes.get(i) & 0xFF];
+            BitSet output = outputs[state];
+            if (output != null) {
+                int before = found.cardinality();
+                found.or(output);
+                remaining -= found.cardinality() - before;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,211 @@
+package com.apiautomation.framework.utils;
+
+import com.apiautomation.framework.config.ConfigManager;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Single access point for response body bytes used by the framework's assertions.
+ *
+ * <p>Bodies at or above {@code large.response.threshold.bytes} can be spilled: the body stream is
+ * copied to a temp file under {@code large.response.directory} and every assertion then reads a
+ * read-only memory-mapped view of that file instead of a heap copy. Spilled files are deleted once
+ * the owning {@link Response} is garbage collected, and at JVM exit at the latest.
+ *
+ * <p>A spilled response's own body stream has been consumed; read it through this class (or the
+ * {@link ApiUtils} assertions) rather than {@code response.getBody()}.
+ */
+public final class ResponseBodies {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseBodies.class);
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int PREVIEW_BYTES = 2048;
+
+    private static final Map<Response, ByteBuffer> bodies = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Cleaner cleaner = Cleaner.create();
+
+    private ResponseBodies() {
+    }
+
+    /**
+     * Returns a read-only view of the body bytes, memory-mapped for spilled responses.
+     */
+    public static ByteBuffer buffer(Response response) {
+        ByteBuffer buffer = bodies.get(response);
+        return buffer != null ? buffer.duplicate() : ByteBuffer.wrap(response.getBody().asByteArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a stream over the body bytes without copying spilled bodies onto the heap.
+     */
+    public static InputStream inputStream(Response response) {
+        return new ByteBufferInputStream(buffer(response));
+    }
+
+    /**
+     * Whether the body is held by this class (spilled, or read ahead while checking its size)
+     * rather than by the response itself.
+     */
+    public static boolean isManaged(Response response) {
+        return bodies.containsKey(response);
+    }
+
+    public static boolean isSpilled(Response response) {
+        return bodies.get(response) instanceof MappedByteBuffer;
+    }
+
+    /**
+     * Spills the body to disk when its declared {@code Content-Length} is at or above the
+     * configured threshold. Responses without a length are read up to the threshold first and
+     * only spilled if they turn out to be larger.
+     *
+     * @return {@code true} if the body is now served from a memory-mapped file
+     */
+    public static boolean spillIfLarge(Response response) {
+        if (bodies.containsKey(response)) {
+            return isSpilled(response);
+        }
+        long threshold = ConfigManager.getLargeResponseThreshold();
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength != null) {
+            try {
+                if (Long.parseLong(contentLength.trim()) < threshold) {
+                    return false;
+                }
+                spill(response, new byte[0], response.getBody().asInputStream());
+                return true;
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring malformed Content-Length '{}'", contentLength);
+            }
+        }
+
+        try {
+            InputStream input = response.getBody().asInputStream();
+            byte[] head = input.readNBytes((int) Math.min(threshold, Integer.MAX_VALUE - 8));
+            if (head.length < threshold) {
+                // Small body: keep the bytes already read rather than losing them with the stream
+                bodies.put(response, ByteBuffer.wrap(head).asReadOnlyBuffer());
+                return false;
+            }
+            spill(response, head, input);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read response body", e);
+        }
+    }
+
+    /**
+     * Unconditionally spills the body to disk and memory-maps it.
+     */
+    public static void spill(Response response) {
+        if (!isSpilled(response)) {
+            InputStream source = bodies.containsKey(response) ? inputStream(response) : response.getBody().asInputStream();
+            spill(response, new byte[0], source);
+        }
+    }
+
+    private static void spill(Response response, byte[] head, InputStream rest) {
+        long start = System.nanoTime();
+        try {
+            Path directory = Paths.get(ConfigManager.getLargeResponseDirectory());
+            Files.createDirectories(directory);
+            Path file = Files.createTempFile(directory, "response-", ".body");
+            file.toFile().deleteOnExit();
+
+            try (InputStream input = rest; OutputStream output = Files.newOutputStream(file)) {
+                output.write(head);
+                byte[] chunk = new byte[COPY_BUFFER_SIZE];
+                int read;
+                while ((read = input.read(chunk)) >= 0) {
+                    output.write(chunk, 0, read);
+                }
+            }
+
+            MappedByteBuffer mapped;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("Response body of " + channel.size() + " bytes exceeds the 2 GB mapping limit");
+                }
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            bodies.put(response, mapped);
+            cleaner.register(response, () -> deleteQuietly(file));
+            logger.info("💾 Spilled {} byte response body to {} in {}ms", mapped.capacity(), file,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spill response body to disk", e);
+        }
+    }
+
+    /**
+     * Decodes at most the first {@value #PREVIEW_BYTES} bytes of the body, for log messages.
+     */
+    public static String preview(Response response) {
+        ByteBuffer buffer = buffer(response);
+        int length = Math.min(buffer.remaining(), PREVIEW_BYTES);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        return buffer.hasRemaining() ? text + "... (" + (length + buffer.remaining()) + " bytes)" : text;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Could not delete spilled response body {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Minimal stream view over a {@link ByteBuffer}.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
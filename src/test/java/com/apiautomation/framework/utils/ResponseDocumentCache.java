@@ -0,0 +1,71 @@
+package com.apiautomation.framework.utils;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import io.restassured.response.Response;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-response cache of parsed JSON documents so that repeated assertions on the
+ * same response decode and parse the body only once.
+ *
+ * <p>Entries are weakly keyed on the {@link Response} instance and disappear together
+ * with it, so the cache never outlives the responses a test holds on to.
+ *
+ * <p>Spilled responses (see {@link ResponseBodies}) are never parsed into a document: a full tree
+ * of a body that was too large for the heap would defeat the spill. Read them on the token stream.
+ */
+public final class ResponseDocumentCache {
+
+    private static final Map<Response, DocumentContext> documents =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ResponseDocumentCache() {
+    }
+
+    /**
+     * Returns the parsed document for the given response, parsing the body on first use.
+     *
+     * @throws IllegalStateException if the response body has been spilled to disk
+     */
+    public static DocumentContext get(Response response) {
+        if (ResponseBodies.isSpilled(response)) {
+            throw new IllegalStateException("Response body is spilled to disk and is not loaded as a JSON document; "
+                    + "use a definite JSON path so it can be read from the token stream");
+        }
+        DocumentContext document = documents.get(response);
+        if (document == null) {
+            // Parse outside the lock; a racing thread at worst parses the same body twice
+            document = JsonPath.parse(ResponseBodies.inputStream(response));
+            DocumentContext existing = documents.putIfAbsent(response, document);
+            if (existing != null) {
+                document = existing;
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Drops the cached document for the given response, e.g. after its body was replaced.
+     */
+    public static void invalidate(Response response) {
+        documents.remove(response);
+    }
+
+    /**
+     * Whether a parsed document is currently cached for the given response.
+     */
+    public static boolean contains(Response response) {
+        return documents.containsKey(response);
+    }
+
+    /**
+     * Number of responses that currently have a parsed document cached.
+     */
+    public static int size() {
+        return documents.size();
+    }
+}
@@ -0,0 +1,239 @@
+package com.apiautomation.framework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Registry of JSON schemas loaded from the {@code schemas/} classpath directory.
+ *
+ * <p>Every schema is read and compiled once per JVM on first use; compiled schemas are immutable
+ * and shared by all test threads. Validation time is accumulated per schema.
+ */
+public final class SchemaRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaRegistry.class);
+    private static final String SCHEMA_DIRECTORY = "schemas";
+    private static final String SCHEMA_EXTENSION = ".json";
+
+    /** Number of element failures kept in a report. */
+    private static final int MAX_REPORTED_FAILURES = 20;
+
+    private static final Map<String, Timing> timings = new ConcurrentHashMap<>();
+
+    private SchemaRegistry() {
+    }
+
+    private static final class Holder {
+        private static final Map<String, JsonSchema> SCHEMAS = loadSchemas();
+    }
+
+    /**
+     * Names of all registered schemas, e.g. {@code user-schema} for {@code schemas/user-schema.json}.
+     */
+    public static List<String> getSchemaNames() {
+        return new ArrayList<>(Holder.SCHEMAS.keySet());
+    }
+
+    /**
+     * Validates a single JSON value against the named schema.
+     *
+     * @return the validation messages; empty when the value is valid
+     */
+    public static List<String> validate(String schemaName, JsonNode instance) {
+        JsonSchema schema = getSchema(schemaName);
+        long start = System.nanoTime();
+        try {
+            return errors(schema.validate(instance));
+        } catch (ProcessingException e) {
+            return Collections.singletonList("Schema processing failed: " + e.getMessage());
+        } finally {
+            timing(schemaName).record(System.nanoTime() - start, 1);
+        }
+    }
+
+    /**
+     * Validates every element of a JSON array against the named schema, in parallel.
+     *
+     * @return one entry per failing element (capped), prefixed with the element index; empty when all are valid
+     */
+    public static List<String> validateEach(String schemaName, JsonNode array) {
+        JsonSchema schema = getSchema(schemaName);
+        long start = System.nanoTime();
+        try {
+            return IntStream.range(0, array.size())
+                    .parallel()
+                    .mapToObj(index -> {
+                        List<String> errors;
+                        try {
+                            errors = errors(schema.validate(array.get(index)));
+                        } catch (ProcessingException e) {
+                            errors = Collections.singletonList("Schema processing failed: " + e.getMessage());
+                        }
+                        return errors.isEmpty() ? null : "[" + index + "] " + String.join("; ", errors);
+                    })
+                    .filter(Objects::nonNull)
+                    .limit(MAX_REPORTED_FAILURES)
+                    .collect(Collectors.toList());
+        } finally {
+            timing(schemaName).record(System.nanoTime() - start, array.size());
+        }
+    }
+
+    /**
+     * Validation timings per schema name.
+     */
+    public static Map<String, Timing> getTimings() {
+        return Collections.unmodifiableMap(new TreeMap<>(timings));
+    }
+
+    private static JsonSchema getSchema(String schemaName) {
+        JsonSchema schema = Holder.SCHEMAS.get(schemaName);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown schema '" + schemaName + "'. Registered: " + Holder.SCHEMAS.keySet());
+        }
+        return schema;
+    }
+
+    private static Timing timing(String schemaName) {
+        return timings.computeIfAbsent(schemaName, name -> new Timing());
+    }
+
+    private static List<String> errors(ProcessingReport report) {
+        if (report.isSuccess()) {
+            return Collections.emptyList();
+        }
+        List<String> errors = new ArrayList<>();
+        for (ProcessingMessage message : report) {
+            JsonNode pointer = message.asJson().path("instance").path("pointer");
+            errors.add((pointer.asText().isEmpty() ? "" : pointer.asText() + ": ") + message.getMessage());
+        }
+        return errors;
+    }
+
+    private static Map<String, JsonSchema> loadSchemas() {
+        long start = System.nanoTime();
+        JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+        Map<String, JsonSchema> schemas = new TreeMap<>();
+        try {
+            Enumeration<URL> roots = SchemaRegistry.class.getClassLoader().getResources(SCHEMA_DIRECTORY);
+            while (roots.hasMoreElements()) {
+                URI root = roots.nextElement().toURI();
+                if ("jar".equals(root.getScheme())) {
+                    loadJarDirectory(root, factory, schemas);
+                } else {
+                    loadDirectory(Paths.get(root), factory, schemas);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load JSON schemas from '" + SCHEMA_DIRECTORY + "'", e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid schema location", e);
+        }
+        logger.info("✅ Compiled {} JSON schemas in {}ms: {}", schemas.size(),
+                (System.nanoTime() - start) / 1_000_000, schemas.keySet());
+        return Collections.unmodifiableMap(schemas);
+    }
+
+    /**
+     * Loads a schema directory inside a jar. The jar's file system is closed afterwards only if it
+     * was opened here; one that was already open belongs to someone else.
+     */
+    private static void loadJarDirectory(URI root, JsonSchemaFactory factory, Map<String, JsonSchema> schemas) throws IOException {
+        FileSystem jar;
+        boolean opened;
+        try {
+            jar = FileSystems.newFileSystem(root, Collections.emptyMap());
+            opened = true;
+        } catch (FileSystemAlreadyExistsException e) {
+            jar = FileSystems.getFileSystem(root);
+            opened = false;
+        }
+        try {
+            loadDirectory(jar.provider().getPath(root), factory, schemas);
+        } finally {
+            if (opened) {
+                jar.close();
+            }
+        }
+    }
+
+    private static void loadDirectory(Path directory, JsonSchemaFactory factory, Map<String, JsonSchema> schemas) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(path -> path.toString().endsWith(SCHEMA_EXTENSION)).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            String relative = directory.relativize(file).toString().replace('\\', '/');
+            String name = relative.substring(0, relative.length() - SCHEMA_EXTENSION.length());
+            try (InputStream input = Files.newInputStream(file)) {
+                schemas.put(name, factory.getJsonSchema(JsonSupport.mapper().readTree(input)));
+            } catch (ProcessingException e) {
+                throw new IllegalStateException("Invalid JSON schema: " + relative, e);
+            }
+        }
+    }
+
+    /**
+     * Accumulated validation time for one schema.
+     */
+    public static final class Timing {
+        private final LongAdder validations = new LongAdder();
+        private final LongAdder instances = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private void record(long elapsedNanos, int instanceCount) {
+            validations.increment();
+            instances.add(instanceCount);
+            nanos.add(elapsedNanos);
+        }
+
+        public long getValidationCount() {
+            return validations.sum();
+        }
+
+        public long getInstanceCount() {
+            return instances.sum();
+        }
+
+        public long getTotalNanos() {
+            return nanos.sum();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d validations, %d instances, %.2fms total",
+                    getValidationCount(), getInstanceCount(), getTotalNanos() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.apiautomation.framework.utils;
+
+import com.apiautomation.framework.config.ConfigManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-disk store of golden JSON responses for snapshot (regression) testing.
+ *
+ * <p>Snapshots are recorded as canonical JSON (sorted keys, pretty printed) under
+ * {@code snapshot.directory}. A comparison first computes a {@link StructuralHash} of the response
+ * in one streaming pass and checks it against the snapshot's hash, which is cached in memory and
+ * in a {@code .hash} sidecar per set of ignored fields. Only when the hashes differ are both
+ * documents parsed and diffed to report what changed.
+ *
+ * <p>Missing snapshots are recorded on first use; set {@code snapshot.update=true} to re-record
+ * all of them.
+ */
+public final class SnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotStore.class);
+    private static final int MAX_REPORTED_DIFFERENCES = 50;
+
+    private static final Map<String, Long> expectedHashes = new ConcurrentHashMap<>();
+
+    private SnapshotStore() {
+    }
+
+    /**
+     * Compares the response with the named snapshot, recording it if it does not exist yet.
+     *
+     * @return the differences found; empty when the response matches or was just recorded
+     */
+    public static List<String> compare(Response response, String snapshotName, Collection<String> ignoredFields) {
+        Path snapshot = snapshotFile(snapshotName);
+        try {
+            if (ConfigManager.getBooleanProperty("snapshot.update", false) || !Files.exists(snapshot)) {
+                record(response, snapshotName);
+                return new ArrayList<>();
+            }
+
+            StructuralHash hasher = new StructuralHash(ignoredFields);
+            long actual = hasher.hash(JsonSupport.createParser(response));
+            if (actual == expectedHash(snapshotName, hasher, ignoredFields)) {
+                return new ArrayList<>();
+            }
+
+            JsonNode expected;
+            try (InputStream input = Files.newInputStream(snapshot)) {
+                expected = JsonSupport.mapper().readTree(input);
+            }
+            JsonNode actualTree = JsonSupport.mapper().readTree(JsonSupport.createParser(response));
+            List<String> differences = new ArrayList<>();
+            diff("$", "", expected, actualTree, hasher, differences);
+            return differences;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compare response with snapshot '" + snapshotName + "'", e);
+        }
+    }
+
+    /**
+     * Records (or overwrites) the named snapshot with the canonical form of the response.
+     */
+    public static void record(Response response, String snapshotName) {
+        Path snapshot = snapshotFile(snapshotName);
+        try {
+            JsonNode canonical = canonicalize(JsonSupport.mapper().readTree(JsonSupport.createParser(response)));
+            synchronized (SnapshotStore.class) {
+                Files.createDirectories(snapshot.getParent());
+                JsonSupport.mapper().writerWithDefaultPrettyPrinter().writeValue(snapshot.toFile(), canonical);
+                Files.deleteIfExists(hashFile(snapshotName));
+                expectedHashes.keySet().removeIf(key -> key.startsWith(snapshotName + "|"));
+            }
+            logger.info("📸 Recorded snapshot '{}' at {}", snapshotName, snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record snapshot '" + snapshotName + "'", e);
+        }
+    }
+
+    private static long expectedHash(String snapshotName, StructuralHash hasher, Collection<String> ignoredFields) throws IOException {
+        String signature = String.join(",", new TreeSet<>(ignoredFields));
+        String key = snapshotName + "|" + signature;
+        Long cached = expectedHashes.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (SnapshotStore.class) {
+            Path hashFile = hashFile(snapshotName);
+            Properties hashes = new Properties();
+            if (Files.exists(hashFile)) {
+                try (InputStream input = Files.newInputStream(hashFile)) {
+                    hashes.load(input);
+                }
+            }
+
+            String stored = hashes.getProperty(signature);
+            long hash;
+            if (stored != null) {
+                hash = Long.parseUnsignedLong(stored, 16);
+            } else {
+                hash = hasher.hash(JsonSupport.factory().createParser(snapshotFile(snapshotName).toFile()));
+                hashes.setProperty(signature, Long.toHexString(hash));
+                try (OutputStream output = Files.newOutputStream(hashFile)) {
+                    hashes.store(output, "Structural hashes of " + snapshotName + ".json keyed by ignored fields");
+                }
+            }
+            expectedHashes.put(key, hash);
+            return hash;
+        }
+    }
+
+    private static void diff(String path, String objectPath, JsonNode expected, JsonNode actual,
+                             StructuralHash hasher, List<String> differences) {
+        if (differences.size() >= MAX_REPORTED_DIFFERENCES) {
+            return;
+        }
+        if (expected.isObject() && actual.isObject()) {
+            TreeSet<String> names = new TreeSet<>();
+            expected.fieldNames().forEachRemaining(names::add);
+            actual.fieldNames().forEachRemaining(names::add);
+            for (String name : names) {
+                if (hasher.isIgnored(objectPath, name)) {
+                    continue;
+                }
+                String childObjectPath = objectPath.isEmpty() ? name : objectPath + "." + name;
+                JsonNode expectedChild = expected.get(name);
+                JsonNode actualChild = actual.get(name);
+                if (expectedChild == null) {
+                    differences.add(path + "." + name + ": unexpected field with value " + actualChild);
+                } else if (actualChild == null) {
+                    differences.add(path + "." + name + ": missing, expected " + expectedChild);
+                } else {
+                    diff(path + "." + name, childObjectPath, expectedChild, actualChild, hasher, differences);
+                }
+            }
+        } else if (expected.isArray() && actual.isArray()) {
+            if (expected.size() != actual.size()) {
+                differences.add(path + ": array size " + actual.size() + ", expected " + expected.size());
+            }
+            for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+                diff(path + "[" + i + "]", objectPath, expected.get(i), actual.get(i), hasher, differences);
+            }
+        } else if (expected.isNumber() && actual.isNumber()) {
+            if (!StructuralHash.canonicalNumber(expected.decimalValue())
+                    .equals(StructuralHash.canonicalNumber(actual.decimalValue()))) {
+                differences.add(path + ": " + actual + ", expected " + expected);
+            }
+        } else if (!expected.equals(actual)) {
+            differences.add(path + ": " + actual + ", expected " + expected);
+        }
+    }
+
+    private static JsonNode canonicalize(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode sorted = JsonSupport.mapper().createObjectNode();
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            names.sort(null);
+            for (String name : names) {
+                sorted.set(name, canonicalize(node.get(name)));
+            }
+            return sorted;
+        }
+        if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                ((ArrayNode) node).set(i, canonicalize(node.get(i)));
+            }
+        }
+        return node;
+    }
+
+    private static Path snapshotFile(String snapshotName) {
+        return directory().resolve(safeName(snapshotName) + ".json");
+    }
+
+    private static Path hashFile(String snapshotName) {
+        return directory().resolve(safeName(snapshotName) + ".hash");
+    }
+
+    private static Path directory() {
+        return Paths.get(ConfigManager.getProperty("snapshot.directory", "src/test/resources/snapshots"));
+    }
+
+    private static String safeName(String snapshotName) {
+        return snapshotName.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
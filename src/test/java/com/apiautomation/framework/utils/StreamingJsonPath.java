@@ -0,0 +1,133 @@
+package com.apiautomation.framework.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A definite JSON path ({@code $}, {@code $.a.b}, {@code $[0].title}, {@code $['a b']}) that can be
+ * resolved directly on a token stream, skipping everything that is not on the path.
+ *
+ * <p>Wildcards, deep scans and filters are not supported; {@link #parse(String)} returns
+ * {@code null} for such expressions so callers can fall back to the JSON path engine.
+ */
+public final class StreamingJsonPath {
+
+    private final String expression;
+    private final List<Object> segments;
+
+    private StreamingJsonPath(String expression, List<Object> segments) {
+        this.expression = expression;
+        this.segments = segments;
+    }
+
+    /**
+     * Parses a definite path, or returns {@code null} if the expression needs the full JSON path engine.
+     */
+    public static StreamingJsonPath parse(String expression) {
+        String path = expression.trim();
+        if (!path.startsWith("$")) {
+            return null;
+        }
+
+        List<Object> segments = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int start = ++i;
+                while (i < path.length() && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                    i++;
+                }
+                String name = path.substring(start, i);
+                if (name.isEmpty() || name.equals("*") || name.indexOf('(') >= 0) {
+                    return null;
+                }
+                segments.add(name);
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    return null;
+                }
+                String inner = path.substring(i + 1, end).trim();
+                if (inner.length() >= 2 && (inner.charAt(0) == '\'' || inner.charAt(0) == '"')
+                        && inner.charAt(inner.length() - 1) == inner.charAt(0)) {
+                    String name = inner.substring(1, inner.length() - 1);
+                    // Several names ($['a','b']) or escapes are left to the JSON path engine
+                    if (name.indexOf(inner.charAt(0)) >= 0 || name.indexOf(',') >= 0 || name.indexOf('\\') >= 0) {
+                        return null;
+                    }
+                    segments.add(name);
+                } else if (!inner.isEmpty() && inner.length() <= 9 && inner.chars().allMatch(Character::isDigit)) {
+                    segments.add(Integer.parseInt(inner));
+                } else {
+                    return null;
+                }
+                i = end + 1;
+            } else {
+                return null;
+            }
+        }
+        return new StreamingJsonPath(path, Collections.unmodifiableList(segments));
+    }
+
+    /**
+     * Advances the parser to the first token of the value at this path.
+     *
+     * @param parser a parser that has not consumed any token yet
+     * @return {@code true} if the value exists, in which case {@link JsonParser#currentToken()} is
+     *         its first token; {@code false} otherwise
+     */
+    public boolean seek(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        for (Object segment : segments) {
+            if (token == null) {
+                return false;
+            }
+            if (segment instanceof String) {
+                if (token != JsonToken.START_OBJECT || !seekField(parser, (String) segment)) {
+                    return false;
+                }
+            } else {
+                if (token != JsonToken.START_ARRAY || !seekIndex(parser, (Integer) segment)) {
+                    return false;
+                }
+            }
+            token = parser.currentToken();
+        }
+        return token != null;
+    }
+
+    private static boolean seekField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            boolean match = name.equals(parser.getCurrentName());
+            parser.nextToken();
+            if (match) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean seekIndex(JsonParser parser, int index) throws IOException {
+        JsonToken token;
+        int current = 0;
+        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            if (current++ == index) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
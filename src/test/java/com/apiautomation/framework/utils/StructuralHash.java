@@ -0,0 +1,144 @@
+package com.apiautomation.framework.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 64-bit structural hash of a JSON document computed in one streaming pass.
+ *
+ * <p>The hash is built bottom-up from subtree hashes: object members are combined with a
+ * commutative sum, so key order does not matter, while array elements are combined in order.
+ * Numbers are hashed by value, so {@code 1.0} and {@code 1.00} hash alike. Ignored fields are
+ * skipped without being read, which makes excluding timestamps or generated ids free.
+ *
+ * <p>Ignored fields follow the {@link JsonFieldScanner} convention: a plain name is ignored at any
+ * depth, a dotted path ({@code meta.generatedAt}) is matched against the chain of enclosing object
+ * keys with array levels transparent.
+ */
+public final class StructuralHash {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long NULL_HASH = mix(1);
+    private static final long TRUE_HASH = mix(2);
+    private static final long FALSE_HASH = mix(3);
+    private static final long OBJECT_TAG = mix(4);
+    private static final long ARRAY_TAG = mix(5);
+
+    private final Set<String> ignoredNames = new HashSet<>();
+    private final Set<String> ignoredPaths = new HashSet<>();
+
+    public StructuralHash(Collection<String> ignoredFields) {
+        for (String field : ignoredFields) {
+            (field.indexOf('.') >= 0 ? ignoredPaths : ignoredNames).add(field);
+        }
+    }
+
+    /**
+     * Hashes the single JSON value read from the parser; the parser is closed afterwards.
+     */
+    public long hash(JsonParser parser) throws IOException {
+        try (JsonParser p = parser) {
+            JsonToken token = p.nextToken();
+            return token == null ? NULL_HASH : hashValue(p, token);
+        }
+    }
+
+    private long hashValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT: {
+                long members = 0;
+                int count = 0;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    boolean ignored = isIgnored(name, parser.getParsingContext());
+                    JsonToken valueToken = parser.nextToken();
+                    if (ignored) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    members += mix(hashString(name) ^ Long.rotateLeft(hashValue(parser, valueToken), 17));
+                    count++;
+                }
+                return mix(OBJECT_TAG ^ members ^ count);
+            }
+            case START_ARRAY: {
+                long hash = ARRAY_TAG;
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    hash = mix(hash * 31 + hashValue(parser, element));
+                }
+                return hash;
+            }
+            case VALUE_STRING:
+                return hashString(parser.getText());
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return mix(hashString(canonicalNumber(parser.getDecimalValue())) ^ 6);
+            case VALUE_TRUE:
+                return TRUE_HASH;
+            case VALUE_FALSE:
+                return FALSE_HASH;
+            case VALUE_NULL:
+                return NULL_HASH;
+            default:
+                throw new IOException("Unexpected token " + token + " at " + parser.getCurrentLocation());
+        }
+    }
+
+    /**
+     * Whether the member named {@code name} is ignored; the context is the parser's context at
+     * that member's {@code FIELD_NAME} token.
+     */
+    boolean isIgnored(String name, JsonStreamContext context) {
+        if (ignoredNames.contains(name)) {
+            return true;
+        }
+        if (ignoredPaths.isEmpty()) {
+            return false;
+        }
+        Deque<String> names = new ArrayDeque<>();
+        for (JsonStreamContext current = context; current != null; current = current.getParent()) {
+            if (current.inObject() && current.getCurrentName() != null) {
+                names.addFirst(current.getCurrentName());
+            }
+        }
+        return ignoredPaths.contains(String.join(".", names));
+    }
+
+    boolean isIgnored(String objectPath, String name) {
+        return ignoredNames.contains(name)
+                || ignoredPaths.contains(objectPath.isEmpty() ? name : objectPath + "." + name);
+    }
+
+    static String canonicalNumber(BigDecimal value) {
+        return value.signum() == 0 ? "0" : value.stripTrailingZeros().toPlainString();
+    }
+
+    private static long hashString(String value) {
+        // FNV-1a over UTF-8 bytes, finished with a mixer
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        // SplitMix64 finalizer
+        long z = value + SEED;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
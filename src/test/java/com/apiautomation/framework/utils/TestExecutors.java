@@ -0,0 +1,146 @@
+package com.apiautomation.framework.utils;
+
+import com.apiautomation.framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Executors for running blocking test work, such as RestAssured calls, in parallel.
+ *
+ * <p>With {@code test.parallel.mode=virtual} and a JDK that has virtual threads (21+), every task
+ * gets its own virtual thread, so thousands of blocking requests can be in flight at once. On older
+ * JDKs, or with {@code test.parallel.mode=platform}, tasks run on a bounded pool of
+ * {@code test.parallel.threads} platform threads. The virtual-thread factory is looked up
+ * reflectively so the framework still compiles for Java 11.
+ */
+public final class TestExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestExecutors.class);
+
+    private static final Method VIRTUAL_EXECUTOR_FACTORY = findVirtualExecutorFactory();
+    private static final boolean VIRTUAL_REQUESTED =
+            "virtual".equalsIgnoreCase(ConfigManager.getProperty("test.parallel.mode", "platform").trim());
+
+    static {
+        if (VIRTUAL_REQUESTED && VIRTUAL_EXECUTOR_FACTORY == null) {
+            logger.warn("⚠️ Virtual threads need Java 21+ (running {}), using a pool of {} platform threads",
+                    System.getProperty("java.version"), getPlatformThreads());
+        }
+    }
+
+    private TestExecutors() {
+    }
+
+    /**
+     * Whether new executors run tasks on virtual threads.
+     */
+    public static boolean isVirtualThreadMode() {
+        return VIRTUAL_REQUESTED && VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Size of the platform pool used when virtual threads are off or unavailable.
+     */
+    public static int getPlatformThreads() {
+        return Math.max(1, ConfigManager.getIntProperty("test.parallel.threads", 4));
+    }
+
+    /**
+     * Creates an executor for the configured mode. The caller owns it and must shut it down.
+     */
+    public static ExecutorService newExecutor(String name) {
+        return newExecutor(name, getPlatformThreads());
+    }
+
+    /**
+     * Like {@link #newExecutor(String)}, with {@code platformThreads} threads when virtual threads
+     * are off, e.g. for load generators that need more requests in flight than tests do.
+     */
+    public static ExecutorService newExecutor(String name, int platformThreads) {
+        if (isVirtualThreadMode()) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("⚠️ Could not create virtual-thread executor, using platform threads: {}", e.getMessage());
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, platformThreads), runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs all tasks concurrently and returns their results in task order. The first failure is
+     * rethrown as-is when unchecked (including assertion errors), otherwise wrapped.
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        ExecutorService executor = newExecutor("fan-out");
+        try {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException("Parallel task failed: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for parallel tasks", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs {@code task} for indices {@code 0..count-1} concurrently, e.g. one blocking request per index.
+     */
+    public static <T> List<T> fanOut(int count, IntFunction<T> task) {
+        List<Callable<T>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            tasks.add(() -> task.apply(index));
+        }
+        return invokeAll(tasks);
+    }
+
+    public static String describe() {
+        return isVirtualThreadMode() ? "virtual threads" : getPlatformThreads() + " platform threads";
+    }
+
+    private static Method findVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}